@@ -0,0 +1,116 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Compares filling a batch of instances with the bulk methods of {@link ObjectInstantiator}
+ * against calling {@link ObjectInstantiator#newInstance()} in a loop
+ *
+ * @author Asterios Raptis
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.io=ALL-UNNAMED")
+@State(Scope.Benchmark)
+public class BulkBenchmark
+{
+
+	@Param({ "SUN_REFLECTION_FACTORY", "UNSAFE_FACTORY" })
+	public InstantiatorType instantiatorType;
+
+	@Param({ "SMALL", "WIDE" })
+	public ClassShape classShape;
+
+	@Param({ "1000" })
+	public int batchSize;
+
+	private ObjectInstantiator<Object> instantiator;
+
+	private Object[] array;
+
+	private List<Object> list;
+
+	@Setup
+	public void setUp()
+	{
+		instantiator = instantiatorType.newInstantiatorOf(classShape.getType());
+		array = new Object[batchSize];
+		list = new ArrayList<>(batchSize);
+	}
+
+	@Benchmark
+	public Object[] arrayBulk()
+	{
+		return instantiator.newInstances(array);
+	}
+
+	@Benchmark
+	public Object[] arrayLoop()
+	{
+		for (int i = 0; i < array.length; i++)
+		{
+			array[i] = instantiator.newInstance();
+		}
+		return array;
+	}
+
+	@Benchmark
+	public List<Object> listBulk()
+	{
+		list.clear();
+		return instantiator.newInstances(list, batchSize);
+	}
+
+	@Benchmark
+	public List<Object> listLoop()
+	{
+		list.clear();
+		for (int i = 0; i < batchSize; i++)
+		{
+			list.add(instantiator.newInstance());
+		}
+		return list;
+	}
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.io.Serializable;
+
+/**
+ * The shapes of classes the benchmarks are instantiating. Every shape is serializable and has a
+ * public no-arg constructor, so each {@link InstantiatorType} can create all of them.
+ *
+ * @author Asterios Raptis
+ */
+public enum ClassShape
+{
+
+	/** A class with two fields and no serializable parent */
+	SMALL(Small.class),
+
+	/** A class with 32 fields of mixed types */
+	WIDE(Wide.class),
+
+	/** A class with eight levels of serializable parents under a non-serializable root */
+	DEEP(Deep.class);
+
+	private final Class<?> type;
+
+	ClassShape(Class<?> type)
+	{
+		this.type = type;
+	}
+
+	/**
+	 * @return the class of this shape
+	 */
+	public Class<?> getType()
+	{
+		return type;
+	}
+
+	public static class Small implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		int id;
+		String name;
+
+		public Small()
+		{
+		}
+	}
+
+	public static class Wide implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		int i0, i1, i2, i3, i4, i5, i6, i7;
+		long l0, l1, l2, l3, l4, l5, l6, l7;
+		double d0, d1, d2, d3, d4, d5, d6, d7;
+		Object o0, o1, o2, o3, o4, o5, o6, o7;
+
+		public Wide()
+		{
+		}
+	}
+
+	public static class Root
+	{
+		int root;
+
+		public Root()
+		{
+		}
+	}
+
+	public static class Level1 extends Root implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level1;
+
+		public Level1()
+		{
+		}
+	}
+
+	public static class Level2 extends Level1
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level2;
+
+		public Level2()
+		{
+		}
+	}
+
+	public static class Level3 extends Level2
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level3;
+
+		public Level3()
+		{
+		}
+	}
+
+	public static class Level4 extends Level3
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level4;
+
+		public Level4()
+		{
+		}
+	}
+
+	public static class Level5 extends Level4
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level5;
+
+		public Level5()
+		{
+		}
+	}
+
+	public static class Level6 extends Level5
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level6;
+
+		public Level6()
+		{
+		}
+	}
+
+	public static class Level7 extends Level6
+	{
+		private static final long serialVersionUID = 1L;
+
+		int level7;
+
+		public Level7()
+		{
+		}
+	}
+
+	public static class Deep extends Level7
+	{
+		private static final long serialVersionUID = 1L;
+
+		int deep;
+
+		public Deep()
+		{
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.modjenesis.ObjenesisBase;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
+import io.github.astrapi69.modjenesis.strategy.SerializingInstantiatorStrategy;
+import io.github.astrapi69.modjenesis.strategy.SingleInstantiatorStrategy;
+import io.github.astrapi69.modjenesis.strategy.StdInstantiatorStrategy;
+
+/**
+ * Measures the first-use costs steady-state benchmarks hide: the time from a fresh JVM to one
+ * instance of each of classCount never seen classes, strategy creation included. With a
+ * classCount of 1 it is the time to the first instance. Each measurement is a single shot in its
+ * own fork, so run it with many forks (-f) to get a distribution. Note that the JMH harness
+ * itself uses serialization to talk to the forked JVM, so the serialization infrastructure is
+ * already loaded and the costs measured for the serializing strategies are per class.
+ *
+ * @author Asterios Raptis
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = "--add-opens=java.base/java.io=ALL-UNNAMED")
+@State(Scope.Benchmark)
+public class ColdStartBenchmark
+{
+
+	/** The strategy, SINGLE_ ones being a {@link SingleInstantiatorStrategy} */
+	@Param({ "STD", "SERIALIZING", "SINGLE_SUN_REFLECTION_FACTORY", "SINGLE_UNSAFE_FACTORY",
+			"SINGLE_OBJECT_STREAM_CLASS" })
+	public String strategy;
+
+	@Param({ "1", "10", "100", "1000" })
+	public int classCount;
+
+	private List<Class<?>> classes;
+
+	@Setup
+	public void setUp()
+	{
+		classes = GeneratedClasses.generate(classCount);
+	}
+
+	@Benchmark
+	public Object firstInstances()
+	{
+		ObjenesisBase objenesis = new ObjenesisBase(newStrategy());
+		Object instance = null;
+		for (Class<?> type : classes)
+		{
+			instance = objenesis.newInstance(type);
+		}
+		return instance;
+	}
+
+	private InstantiatorStrategy newStrategy()
+	{
+		switch (strategy)
+		{
+			case "STD" :
+				return new StdInstantiatorStrategy();
+			case "SERIALIZING" :
+				return new SerializingInstantiatorStrategy();
+			case "SINGLE_SUN_REFLECTION_FACTORY" :
+				return new SingleInstantiatorStrategy(SunReflectionFactoryInstantiator.class);
+			case "SINGLE_UNSAFE_FACTORY" :
+				return new SingleInstantiatorStrategy(UnsafeFactoryInstantiator.class);
+			case "SINGLE_OBJECT_STREAM_CLASS" :
+				return new SingleInstantiatorStrategy(ObjectStreamClassInstantiator.class);
+			default :
+				throw new IllegalArgumentException("Unknown strategy " + strategy);
+		}
+	}
+}
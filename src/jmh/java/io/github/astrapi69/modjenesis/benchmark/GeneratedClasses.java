@@ -0,0 +1,178 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates distinct serializable classes never seen by the JVM, so that the cold-start benchmarks
+ * pay the first-use costs for every class and scale with their count. Each class extends
+ * {@link Object}, implements {@link java.io.Serializable} without a serialVersionUID, has an int
+ * and a String field and a public no-arg constructor. The class files are written by hand to not
+ * depend on a bytecode library.
+ *
+ * @author Asterios Raptis
+ */
+final class GeneratedClasses
+{
+
+	private static final String PACKAGE = "io/github/astrapi69/modjenesis/benchmark/generated/";
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_METHODREF = 10;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+	private GeneratedClasses()
+	{
+	}
+
+	/**
+	 * Defines the given count of new classes in a new class loader
+	 *
+	 * @param count
+	 *            the number of classes to generate
+	 * @return the new classes
+	 */
+	static List<Class<?>> generate(int count)
+	{
+		DefiningClassLoader loader = new DefiningClassLoader();
+		List<Class<?>> classes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			String name = PACKAGE + "Generated" + i;
+			classes.add(loader.define(name.replace('/', '.'), classFileOf(name)));
+		}
+		return classes;
+	}
+
+	private static byte[] classFileOf(String internalName)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes))
+		{
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(52); // Java 8, no stack map frames needed
+
+			out.writeShort(16); // constant pool count, entries 1 to 15
+			utf8(out, internalName); // 1
+			reference(out, CONSTANT_CLASS, 1); // 2
+			utf8(out, "java/lang/Object"); // 3
+			reference(out, CONSTANT_CLASS, 3); // 4
+			utf8(out, "java/io/Serializable"); // 5
+			reference(out, CONSTANT_CLASS, 5); // 6
+			utf8(out, "<init>"); // 7
+			utf8(out, "()V"); // 8
+			references(out, CONSTANT_NAME_AND_TYPE, 7, 8); // 9
+			references(out, CONSTANT_METHODREF, 4, 9); // 10
+			utf8(out, "Code"); // 11
+			utf8(out, "id"); // 12
+			utf8(out, "I"); // 13
+			utf8(out, "name"); // 14
+			utf8(out, "Ljava/lang/String;"); // 15
+
+			out.writeShort(0x0021); // public super
+			out.writeShort(2);
+			out.writeShort(4);
+			out.writeShort(1);
+			out.writeShort(6);
+
+			out.writeShort(2);
+			field(out, 12, 13);
+			field(out, 14, 15);
+
+			out.writeShort(1);
+			out.writeShort(0x0001); // public <init>()V
+			out.writeShort(7);
+			out.writeShort(8);
+			out.writeShort(1);
+			out.writeShort(11);
+			out.writeInt(17);
+			out.writeShort(1); // max stack
+			out.writeShort(1); // max locals
+			out.writeInt(5);
+			out.writeByte(0x2A); // aload_0
+			out.writeByte(0xB7); // invokespecial Object.<init>
+			out.writeShort(10);
+			out.writeByte(0xB1); // return
+			out.writeShort(0);
+			out.writeShort(0);
+
+			out.writeShort(0);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void utf8(DataOutputStream out, String value) throws IOException
+	{
+		out.writeByte(CONSTANT_UTF8);
+		out.writeUTF(value);
+	}
+
+	private static void reference(DataOutputStream out, int tag, int index) throws IOException
+	{
+		out.writeByte(tag);
+		out.writeShort(index);
+	}
+
+	private static void references(DataOutputStream out, int tag, int first, int second)
+		throws IOException
+	{
+		out.writeByte(tag);
+		out.writeShort(first);
+		out.writeShort(second);
+	}
+
+	private static void field(DataOutputStream out, int name, int descriptor) throws IOException
+	{
+		out.writeShort(0);
+		out.writeShort(name);
+		out.writeShort(descriptor);
+		out.writeShort(0);
+	}
+
+	private static final class DefiningClassLoader extends ClassLoader
+	{
+		DefiningClassLoader()
+		{
+			super(GeneratedClasses.class.getClassLoader());
+		}
+
+		Class<?> define(String name, byte[] classFile)
+		{
+			return defineClass(name, classFile, 0, classFile.length);
+		}
+	}
+}
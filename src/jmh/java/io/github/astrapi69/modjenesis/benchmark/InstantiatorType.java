@@ -0,0 +1,79 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.function.Function;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ConstructorInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectInputStreamInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassMethodHandleInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactorySerializationInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+
+/**
+ * The {@link ObjectInstantiator} implementations that are measured by the benchmarks
+ *
+ * @author Asterios Raptis
+ */
+public enum InstantiatorType
+{
+
+	SUN_REFLECTION_FACTORY(SunReflectionFactoryInstantiator::new),
+
+	SUN_REFLECTION_FACTORY_SERIALIZATION(SunReflectionFactorySerializationInstantiator::new),
+
+	UNSAFE_FACTORY(UnsafeFactoryInstantiator::new),
+
+	OBJECT_STREAM_CLASS(ObjectStreamClassInstantiator::new),
+
+	OBJECT_STREAM_CLASS_METHOD_HANDLE(ObjectStreamClassMethodHandleInstantiator::new),
+
+	OBJECT_INPUT_STREAM(ObjectInputStreamInstantiator::new),
+
+	CONSTRUCTOR(ConstructorInstantiator::new);
+
+	private final Function<Class<Object>, ObjectInstantiator<Object>> factory;
+
+	InstantiatorType(Function<Class<Object>, ObjectInstantiator<Object>> factory)
+	{
+		this.factory = factory;
+	}
+
+	/**
+	 * Creates a new instantiator of this type for the given class
+	 *
+	 * @param type
+	 *            the class to instantiate
+	 * @return the new instantiator
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectInstantiator<Object> newInstantiatorOf(Class<?> type)
+	{
+		return factory.apply((Class<Object>)type);
+	}
+}
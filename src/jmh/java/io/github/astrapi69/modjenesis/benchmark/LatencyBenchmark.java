@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.monitoring.LatencyRecorder;
+
+/**
+ * Measures the cost of sampling the latencies with a {@link LatencyRecorder} for several sampling
+ * rates, 0 meaning the instantiator is not decorated.
+ *
+ * @author Asterios Raptis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LatencyBenchmark
+{
+
+	@Param({ "0", "0.01", "1" })
+	public double samplingRate;
+
+	@Param({ "SMALL" })
+	public ClassShape classShape;
+
+	private ObjectInstantiator<?> instantiator;
+
+	@Setup
+	public void setUp()
+	{
+		instantiator = newInstantiator(classShape.getType());
+	}
+
+	private <T> ObjectInstantiator<T> newInstantiator(Class<T> type)
+	{
+		ObjectInstantiator<T> undecorated = new ObjenesisStd().getInstantiatorOf(type);
+		return samplingRate == 0
+			? undecorated
+			: new LatencyRecorder(samplingRate).decorate(type, undecorated);
+	}
+
+	@Benchmark
+	public Object newInstance()
+	{
+		return instantiator.newInstance();
+	}
+}
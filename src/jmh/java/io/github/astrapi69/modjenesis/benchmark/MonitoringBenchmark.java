@@ -0,0 +1,98 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCache;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.monitoring.InstrumentedObjenesis;
+
+/**
+ * Measures the cost of the instrumentation layer by comparing an {@link InstrumentedObjenesis}
+ * with the plain {@link ObjenesisStd}, on the instantiation through the Objenesis and through a
+ * kept instantiator. Use the -t option of JMH to measure it with concurrent threads.
+ *
+ * @author Asterios Raptis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonitoringBenchmark
+{
+
+	/** none, cache statistics only or cache statistics and instance counts */
+	@Param({ "none", "cache", "counting" })
+	public String instrumentation;
+
+	@Param({ "SMALL" })
+	public ClassShape classShape;
+
+	private Objenesis objenesis;
+
+	private ObjectInstantiator<?> instantiator;
+
+	private Class<?> type;
+
+	@Setup
+	public void setUp()
+	{
+		objenesis = "none".equals(instrumentation)
+			? new ObjenesisStd()
+			: new InstrumentedObjenesis(new ObjenesisStd(new ClassValueInstantiatorCache(true)),
+				"counting".equals(instrumentation));
+		type = classShape.getType();
+		instantiator = objenesis.getInstantiatorOf(type);
+	}
+
+	@Benchmark
+	public Object objenesisNewInstance()
+	{
+		return objenesis.newInstance(type);
+	}
+
+	@Benchmark
+	public Object instantiatorNewInstance()
+	{
+		return instantiator.newInstance();
+	}
+}
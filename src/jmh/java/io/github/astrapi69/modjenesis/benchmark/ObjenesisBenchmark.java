@@ -0,0 +1,103 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisBase;
+import io.github.astrapi69.modjenesis.ObjenesisSerializer;
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.strategy.AdaptiveInstantiatorStrategy;
+
+/**
+ * Measures the throughput of instantiating through {@link ObjenesisStd} and
+ * {@link ObjenesisSerializer} with and without caching of the instantiators.
+ *
+ * @author Asterios Raptis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjenesisBenchmark
+{
+
+	@Param({ "std", "serializer", "adaptive" })
+	public String objenesisType;
+
+	@Param({ "true", "false" })
+	public boolean useCache;
+
+	@Param
+	public ClassShape classShape;
+
+	private Objenesis objenesis;
+
+	private Class<?> type;
+
+	@Setup
+	public void setUp()
+	{
+		switch (objenesisType)
+		{
+			case "std" :
+				objenesis = new ObjenesisStd(useCache);
+				break;
+			case "serializer" :
+				objenesis = new ObjenesisSerializer(useCache);
+				break;
+			default :
+				objenesis = new ObjenesisBase(new AdaptiveInstantiatorStrategy(), useCache);
+		}
+		type = classShape.getType();
+	}
+
+	@Benchmark
+	public Object newInstance()
+	{
+		return objenesis.newInstance(type);
+	}
+
+	@Benchmark
+	public Object getInstantiatorOf()
+	{
+		return objenesis.getInstantiatorOf(type);
+	}
+}
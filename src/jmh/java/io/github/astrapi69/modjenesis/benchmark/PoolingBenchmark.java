@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.PoolingInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+
+/**
+ * Compares recycling short-lived instances through a {@link PoolingInstantiator} with allocating
+ * them through an {@link UnsafeFactoryInstantiator}. Run it with the gc profiler to compare the
+ * count of young collections.
+ *
+ * @author Asterios Raptis
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class PoolingBenchmark
+{
+
+	@Param({ "SMALL", "WIDE" })
+	public ClassShape classShape;
+
+	private ObjectInstantiator<Object> allocating;
+
+	private PoolingInstantiator<Object> pooling;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp()
+	{
+		Class<Object> type = (Class<Object>)classShape.getType();
+		allocating = new UnsafeFactoryInstantiator<>(type);
+		pooling = new PoolingInstantiator<>(type, 1024);
+	}
+
+	@Benchmark
+	public void allocate(Blackhole blackhole)
+	{
+		blackhole.consume(allocating.newInstance());
+	}
+
+	@Benchmark
+	public void recycle(Blackhole blackhole)
+	{
+		Object instance = pooling.newInstance();
+		blackhole.consume(instance);
+		pooling.release(instance);
+	}
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resolves class names to classes, each name being looked up only once per class loader. The
+ * names that don't resolve are remembered too, so that looking them up again doesn't walk the
+ * class loaders, up to {@link #MAX_NOT_FOUND} of them per class loader since the names may come
+ * from outside, like from a stream being decoded. Used by the name-based methods of
+ * {@link ObjenesisBase}.
+ * <p>
+ * The class loaders and classes are only weakly referenced, so the resolutions don't keep a class
+ * loader from being garbage collected. The names of the last class loader used are checked first,
+ * without taking a lock, since decoders usually resolve all their names from the same one.
+ *
+ * @author Asterios Raptis
+ */
+final class ClassNameResolver
+{
+
+	/** Most names that don't resolve remembered per class loader */
+	static final int MAX_NOT_FOUND = 1024;
+
+	/** Resolution of a name that doesn't resolve to any class */
+	private static final WeakReference<Class<?>> NOT_FOUND = new WeakReference<>(null);
+
+	/** Names resolved by each class loader, the bootstrap one being the null key */
+	private final Map<ClassLoader, LoaderNames> loaders = new WeakHashMap<>();
+
+	/** Names of the last class loader used, only set under the lock so clear can't be undone */
+	private volatile LoaderNames last;
+
+	/** The classes of the names resolved by a class loader */
+	private static final class LoaderNames
+	{
+		final WeakReference<ClassLoader> classLoader;
+
+		final boolean bootstrap;
+
+		final ConcurrentMap<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+
+		/** Number of names remembered as not found */
+		final AtomicInteger notFound = new AtomicInteger();
+
+		LoaderNames(ClassLoader classLoader)
+		{
+			this.classLoader = new WeakReference<>(classLoader);
+			this.bootstrap = classLoader == null;
+		}
+
+		boolean isOf(ClassLoader classLoader)
+		{
+			return classLoader == null ? bootstrap : this.classLoader.get() == classLoader;
+		}
+	}
+
+	/**
+	 * Gets the class of the given name as seen by the given class loader, resolved on the first
+	 * call for that pair. The class isn't initialized.
+	 *
+	 * @param <T>
+	 *            the type of the class
+	 * @param className
+	 *            the binary name of the class
+	 * @param classLoader
+	 *            the class loader to resolve the name with, null for the bootstrap one
+	 * @return the class or null if the name doesn't resolve
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Class<T> resolve(String className, ClassLoader classLoader)
+	{
+		LoaderNames names = last;
+		if (names == null || !names.isOf(classLoader))
+		{
+			names = getLoaderNames(classLoader);
+		}
+		WeakReference<Class<?>> resolution = names.classes.get(className);
+		if (resolution == NOT_FOUND)
+		{
+			return null;
+		}
+		Class<?> type = resolution == null ? null : resolution.get();
+		if (type == null)
+		{
+			type = forName(className, classLoader);
+			if (type != null)
+			{
+				names.classes.put(className, new WeakReference<>(type));
+			}
+			else if (names.notFound.get() < MAX_NOT_FOUND
+				&& names.classes.putIfAbsent(className, NOT_FOUND) == null)
+			{
+				names.notFound.incrementAndGet();
+			}
+		}
+		return (Class<T>)type;
+	}
+
+	/**
+	 * Forgets all the resolutions, for the class loaders that define classes after their name was
+	 * looked up
+	 */
+	synchronized void clear()
+	{
+		loaders.clear();
+		last = null;
+	}
+
+	/**
+	 * Gets the names of the given class loader and makes them the last used. Both under the lock,
+	 * so that the names of a class loader can't be published again after being cleared.
+	 */
+	private synchronized LoaderNames getLoaderNames(ClassLoader classLoader)
+	{
+		LoaderNames names = loaders.computeIfAbsent(classLoader, LoaderNames::new);
+		last = names;
+		return names;
+	}
+
+	/**
+	 * Loads the class of the given name without initializing it
+	 *
+	 * @param className
+	 *            the binary name of the class
+	 * @param classLoader
+	 *            the class loader to load the class with, null for the bootstrap one
+	 * @return the class or null if it can't be found or linked
+	 */
+	static Class<?> forName(String className, ClassLoader classLoader)
+	{
+		try
+		{
+			return Class.forName(className, false, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError e)
+		{
+			return null;
+		}
+	}
+}
@@ -24,7 +24,13 @@
  */
 package io.github.astrapi69.modjenesis;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
 
 /**
  * Common interface to all kind of Objenesis objects
@@ -47,6 +53,21 @@ public interface Objenesis
 	 */
 	<T> T newInstance(Class<T> clazz, Object... initArgs);
 
+	/**
+	 * Will create a new object without any constructor being called. Same as
+	 * {@link #newInstance(Class, Object...)} without arguments but no varargs array is created.
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return New instance of clazz
+	 */
+	default <T> T newInstance(Class<T> clazz)
+	{
+		return getInstantiatorOf(clazz, ClassUtils.EMPTY_ARGUMENTS).newInstance();
+	}
+
 	/**
 	 * Will pick the best instantiator for the provided class. If you need to create a lot of
 	 * instances from the same class, it is way more efficient to create them from the same
@@ -61,4 +82,225 @@ public interface Objenesis
 	 * @return Instantiator dedicated to the class
 	 */
 	<T> ObjectInstantiator<T> getInstantiatorOf(Class<T> clazz, Object... initArgs);
+
+	/**
+	 * Same as {@link #getInstantiatorOf(Class, Object...)} without arguments but no varargs array
+	 * is created.
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return Instantiator dedicated to the class
+	 */
+	default <T> ObjectInstantiator<T> getInstantiatorOf(Class<T> clazz)
+	{
+		return getInstantiatorOf(clazz, ClassUtils.EMPTY_ARGUMENTS);
+	}
+
+	/**
+	 * Gets the instantiator of the class of the given name, for callers that receive class names
+	 * rather than classes. The class is loaded without being initialized.
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param className
+	 *            the binary name of the class to instantiate
+	 * @param classLoader
+	 *            the class loader to load the class with, null for the bootstrap one
+	 * @return Instantiator dedicated to the class
+	 * @throws ObjenesisException
+	 *             wrapping a {@link ClassNotFoundException} if the class can't be loaded
+	 */
+	@SuppressWarnings("unchecked")
+	default <T> ObjectInstantiator<T> getInstantiatorOf(String className, ClassLoader classLoader)
+	{
+		Class<T> type = (Class<T>)ClassNameResolver.forName(className, classLoader);
+		if (type == null)
+		{
+			throw new ObjenesisException(new ClassNotFoundException(className));
+		}
+		return getInstantiatorOf(type);
+	}
+
+	/**
+	 * Probes the class of the given name for an instantiator without throwing any exception
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param className
+	 *            the binary name of the class to instantiate
+	 * @param classLoader
+	 *            the class loader to load the class with, null for the bootstrap one
+	 * @return Instantiator dedicated to the class or empty if the class can't be loaded or
+	 *         instantiated
+	 */
+	@SuppressWarnings("unchecked")
+	default <T> Optional<ObjectInstantiator<T>> tryGetInstantiatorOf(String className,
+		ClassLoader classLoader)
+	{
+		Class<T> type = (Class<T>)ClassNameResolver.forName(className, classLoader);
+		return type == null ? Optional.empty() : tryGetInstantiatorOf(type);
+	}
+
+	/**
+	 * Probes the given class for an instantiator without throwing any exception, for callers
+	 * trying many classes among which some can't be instantiated.
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return Instantiator dedicated to the class or empty if the class can't be instantiated
+	 * @see #getUnsupportedReason(Class)
+	 */
+	default <T> Optional<ObjectInstantiator<T>> tryGetInstantiatorOf(Class<T> clazz)
+	{
+		if (UnsupportedReason.ofType(clazz) != null)
+		{
+			return Optional.empty();
+		}
+		try
+		{
+			return Optional.of(getInstantiatorOf(clazz));
+		}
+		catch (RuntimeException | LinkageError e)
+		{
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Tells without throwing any exception why the given class can't be instantiated
+	 *
+	 * @param clazz
+	 *            Class to check
+	 * @return the reason why the class can't be instantiated or null if it can
+	 */
+	default UnsupportedReason getUnsupportedReason(Class<?> clazz)
+	{
+		UnsupportedReason reason = UnsupportedReason.ofType(clazz);
+		if (reason == null && tryGetInstantiatorOf(clazz).isEmpty())
+		{
+			reason = UnsupportedReason.INSTANTIATOR_FAILED;
+		}
+		return reason;
+	}
+
+	/**
+	 * Tells without throwing any exception if the given class can be instantiated
+	 *
+	 * @param clazz
+	 *            Class to check
+	 * @return true if an instantiator of the class can be created
+	 * @see #getUnsupportedReason(Class)
+	 */
+	default boolean canInstantiate(Class<?> clazz)
+	{
+		return getUnsupportedReason(clazz) == null;
+	}
+
+	/**
+	 * Will fill the given array with new objects without any constructor being called. The
+	 * instantiator of the class is looked up only once for the whole array.
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param instances
+	 *            the array to fill
+	 * @return the given array
+	 */
+	default <T> T[] newInstances(Class<T> clazz, T[] instances)
+	{
+		return getInstantiatorOf(clazz).newInstances(instances);
+	}
+
+	/**
+	 * Will add the given count of new objects to the given collection without any constructor
+	 * being called. The instantiator of the class is looked up only once for the whole batch.
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param <C>
+	 *            the type of the collection
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param instances
+	 *            the collection to add the new objects to
+	 * @param count
+	 *            the count of new objects to add
+	 * @return the given collection
+	 */
+	default <T, C extends Collection<? super T>> C newInstances(Class<T> clazz, C instances,
+		int count)
+	{
+		return getInstantiatorOf(clazz).newInstances(instances, count);
+	}
+
+	/**
+	 * Creates the instantiators of the given classes in parallel, on as many threads as there are
+	 * available processors, so that their first use doesn't pay for it. Only useful with an
+	 * Objenesis caching its instantiators. A class whose instantiator can't be created doesn't stop
+	 * the warm-up but is reported as a failure in the result.
+	 *
+	 * @param classes
+	 *            the classes to warm up
+	 * @return the result of the warm-up with its failures and duration
+	 */
+	default WarmUpResult warmUp(Collection<? extends Class<?>> classes)
+	{
+		return warmUp(classes, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Same as {@link #warmUp(Collection)} with a given maximum number of threads
+	 *
+	 * @param classes
+	 *            the classes to warm up
+	 * @param parallelism
+	 *            the maximum number of threads to use
+	 * @return the result of the warm-up with its failures and duration
+	 */
+	default WarmUpResult warmUp(Collection<? extends Class<?>> classes, int parallelism)
+	{
+		return WarmUp.warmUp(this, classes, parallelism, new HashMap<>(), System.nanoTime());
+	}
+
+	/**
+	 * Creates in parallel the instantiators of the concrete classes of a package and its
+	 * sub-packages, found in the directories and jars of the given class loader. The classes are
+	 * loaded without being initialized and the ones that can't be loaded are reported as failures
+	 * in the result.
+	 *
+	 * @param packagePrefix
+	 *            the name of the package, like <code>com.example</code>
+	 * @param classLoader
+	 *            the class loader to scan and load the classes with
+	 * @return the result of the warm-up with its failures and duration
+	 */
+	default WarmUpResult warmUp(String packagePrefix, ClassLoader classLoader)
+	{
+		return warmUp(packagePrefix, classLoader, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Same as {@link #warmUp(String, ClassLoader)} with a given maximum number of threads
+	 *
+	 * @param packagePrefix
+	 *            the name of the package, like <code>com.example</code>
+	 * @param classLoader
+	 *            the class loader to scan and load the classes with
+	 * @param parallelism
+	 *            the maximum number of threads to use
+	 * @return the result of the warm-up with its failures and duration
+	 */
+	default WarmUpResult warmUp(String packagePrefix, ClassLoader classLoader, int parallelism)
+	{
+		long start = System.nanoTime();
+		Map<String, Throwable> failures = new HashMap<>();
+		return WarmUp.warmUp(this, WarmUp.scan(packagePrefix, classLoader, failures), parallelism,
+			failures, start);
+	}
 }
@@ -24,9 +24,21 @@
  */
 package io.github.astrapi69.modjenesis;
 
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCache;
+import io.github.astrapi69.modjenesis.cache.InstantiatorCache;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.util.ArgumentSignature;
+import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
+import io.github.astrapi69.modjenesis.internal.FlightRecorderSupport;
 import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
 
 /**
@@ -41,8 +53,149 @@ public class ObjenesisBase implements Objenesis
 	/** Strategy used by this Objenesis implementation to create classes */
 	protected final InstantiatorStrategy strategy;
 
-	/** Strategy cache. Key = Class, Value = InstantiatorStrategy */
-	protected ConcurrentHashMap<String, ObjectInstantiator<?>> cache;
+	/** Instantiator cache. Key = Class, Value = ObjectInstantiator. Null if caching is off */
+	protected InstantiatorCache cache;
+
+	/** Maximum count of argument signatures whose instantiator is kept per class */
+	static final int MAX_SIGNATURES = 32;
+
+	/** If the arguments are passed to the instantiators and part of the cache key */
+	private final boolean useInitArgs;
+
+	/** Result of probing each class, the classes the strategy rejects being a negative cache */
+	private final ClassValue<Probe> probes = new ClassValue<>()
+	{
+		@Override
+		protected Probe computeValue(Class<?> type)
+		{
+			return new Probe(strategy.probe(type));
+		}
+	};
+
+	/** Generation of the recorded creation failures, incremented by clearCache to forget them */
+	private volatile int failureGeneration;
+
+	/** Classes of the names given to the name-based methods, per class loader */
+	private final ClassNameResolver classNames = new ClassNameResolver();
+
+	/** Instantiators being created. Key = Class, Value = creation the other threads wait for */
+	private final ConcurrentMap<Class<?>, PendingCreation> creations = new ConcurrentHashMap<>();
+
+	/** Manifest recording the created instantiators. Null if not recording */
+	private volatile WarmUpManifest recording;
+
+	/** Hook writing the recording at shutdown. Null if none */
+	private Thread recordingHook;
+
+	/** Creation of an instantiator, completed by the thread that started it */
+	private static final class PendingCreation extends CompletableFuture<ObjectInstantiator<?>>
+	{
+		final Thread creator = Thread.currentThread();
+	}
+
+	/**
+	 * What is known of a class, from the strategy and from creating its instantiator. The reasons
+	 * given by the strategy are kept for good, a failed creation only until {@link #clearCache()}
+	 * since it may succeed when tried again, for instance once a missing class becomes loadable.
+	 */
+	private static final class Probe
+	{
+		/** Why the strategy can't instantiate the class, null if it doesn't know */
+		final UnsupportedReason reason;
+
+		/** If an instantiator of the class was created */
+		volatile boolean supported;
+
+		/** Failure generation in which creating the instantiator failed, -1 if it didn't */
+		volatile int failedGeneration = -1;
+
+		Probe(UnsupportedReason reason)
+		{
+			this.reason = reason;
+		}
+	}
+
+	/**
+	 * Instantiators of a class by argument signature, cached as the single entry of the class in
+	 * the cache so that its bound, evictions, removals and statistics apply to them. The last
+	 * signature used is checked first. At most {@link #MAX_SIGNATURES} signatures are kept, and
+	 * never the ones holding classes not visible from the class loader of the class, so that they
+	 * don't keep another class loader alive. The instantiators of the other signatures are created
+	 * on every call.
+	 */
+	private final class SignatureInstantiators<T> implements ObjectInstantiator<T>
+	{
+		final Class<T> type;
+
+		final ConcurrentMap<ArgumentSignature, ObjectInstantiator<T>> instantiators =
+			new ConcurrentHashMap<>();
+
+		volatile SignatureInstantiator<T> last;
+
+		SignatureInstantiators(Class<T> type)
+		{
+			this.type = type;
+		}
+
+		ObjectInstantiator<T> get(Object[] initArgs)
+		{
+			SignatureInstantiator<T> last = this.last;
+			if (last != null && last.signature.matches(initArgs))
+			{
+				return last.instantiator;
+			}
+			ArgumentSignature signature = ArgumentSignature.of(initArgs);
+			ObjectInstantiator<T> instantiator = instantiators.get(signature);
+			if (instantiator == null)
+			{
+				if (!signature.isVisibleFrom(type.getClassLoader()))
+				{
+					return newInstantiatorOf(type, initArgs);
+				}
+				// the bound is approximate under contention, a few more signatures may be kept
+				instantiator = instantiators.size() < MAX_SIGNATURES
+					? instantiators.computeIfAbsent(signature, key -> load(initArgs))
+					: load(initArgs);
+			}
+			this.last = new SignatureInstantiator<>(signature, instantiator);
+			return instantiator;
+		}
+
+		private ObjectInstantiator<T> load(Object[] initArgs)
+		{
+			long start = System.nanoTime();
+			ObjectInstantiator<T> instantiator = newInstantiatorOf(type, initArgs);
+			InstantiatorCache cache = ObjenesisBase.this.cache;
+			if (cache != null)
+			{
+				cache.recordLoad(System.nanoTime() - start);
+			}
+			return instantiator;
+		}
+
+		public T newInstance()
+		{
+			return get(ClassUtils.EMPTY_ARGUMENTS).newInstance();
+		}
+
+		public T newInstance(Object... initArgs)
+		{
+			return get(initArgs).newInstance(initArgs);
+		}
+	}
+
+	/** Instantiator created for an argument signature */
+	private static final class SignatureInstantiator<T>
+	{
+		final ArgumentSignature signature;
+		final ObjectInstantiator<T> instantiator;
+
+		SignatureInstantiator(ArgumentSignature signature, ObjectInstantiator<T> instantiator)
+		{
+			this.signature = signature;
+			this.instantiator = instantiator;
+		}
+	}
 
 	/**
 	 * Constructor allowing to pick a strategy and using cache
@@ -64,13 +217,179 @@ public class ObjenesisBase implements Objenesis
 	 *            If {@link ObjectInstantiator}s should be cached
 	 */
 	public ObjenesisBase(InstantiatorStrategy strategy, boolean useCache)
+	{
+		this(strategy, useCache ? new ClassValueInstantiatorCache() : null);
+	}
+
+	/**
+	 * Flexible constructor allowing to pick the strategy and the cache of the
+	 * {@link ObjectInstantiator}s
+	 *
+	 * @param strategy
+	 *            Strategy to use
+	 * @param cache
+	 *            Cache of the {@link ObjectInstantiator}s or null if no caching should be used
+	 */
+	public ObjenesisBase(InstantiatorStrategy strategy, InstantiatorCache cache)
+	{
+		this(strategy, cache, false);
+	}
+
+	/**
+	 * Flexible constructor allowing to pick the strategy, the cache of the
+	 * {@link ObjectInstantiator}s and if the arguments given to
+	 * {@link #newInstance(Class, Object...)} and {@link #getInstantiatorOf(Class, Object...)} are
+	 * used. When they are, the arguments are passed to the strategy and to the instantiator, and
+	 * the instantiators are cached per class and argument signature, so that an instantiator
+	 * created for some argument types isn't reused for others. The instantiators of a class for all
+	 * its signatures make up a single entry of the cache, so they are bounded, evicted, removed
+	 * and counted along with the class. A cache given here must not be shared with an Objenesis not
+	 * using the arguments.
+	 *
+	 * @param strategy
+	 *            Strategy to use
+	 * @param cache
+	 *            Cache of the {@link ObjectInstantiator}s or null if no caching should be used
+	 * @param useInitArgs
+	 *            If the arguments are passed to the instantiators and part of the cache key
+	 */
+	public ObjenesisBase(InstantiatorStrategy strategy, InstantiatorCache cache,
+		boolean useInitArgs)
 	{
 		if (strategy == null)
 		{
 			throw new IllegalArgumentException("A strategy can't be null");
 		}
 		this.strategy = strategy;
-		this.cache = useCache ? new ConcurrentHashMap<>() : null;
+		this.cache = cache;
+		this.useInitArgs = useInitArgs;
+	}
+
+	/**
+	 * @return true if the arguments are passed to the instantiators and part of the cache key
+	 */
+	public boolean isUsingInitArgs()
+	{
+		return useInitArgs;
+	}
+
+	/**
+	 * @return the cache of the instantiators or null if they are not cached
+	 */
+	public InstantiatorCache getCache()
+	{
+		return cache;
+	}
+
+	/**
+	 * Removes all the cached instantiators and forgets the classes whose instantiator failed to be
+	 * created, so that the next probes of these classes try to create it again. The classes the
+	 * strategy rejects stay rejected.
+	 */
+	public synchronized void clearCache()
+	{
+		failureGeneration++;
+		if (cache != null)
+		{
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Starts recording the classes whose instantiator is created, along with the type of the
+	 * instantiator chosen. Does nothing if already recording.
+	 *
+	 * @return the manifest being recorded
+	 */
+	public synchronized WarmUpManifest startRecording()
+	{
+		if (recording == null)
+		{
+			recording = new WarmUpManifest();
+		}
+		return recording;
+	}
+
+	/**
+	 * Starts recording like {@link #startRecording()} and writes the manifest to the given file
+	 * when the JVM shuts down, to be read back at the next start by
+	 * {@link #warmUpFrom(Path, ClassLoader)}. Replaces the file given by a previous call.
+	 *
+	 * @param file
+	 *            the file to write the manifest to
+	 * @return the manifest being recorded
+	 */
+	public synchronized WarmUpManifest recordTo(Path file)
+	{
+		WarmUpManifest manifest = startRecording();
+		removeRecordingHook();
+		recordingHook = new Thread(() -> manifest.write(file), "modjenesis-manifest-writer");
+		Runtime.getRuntime().addShutdownHook(recordingHook);
+		return manifest;
+	}
+
+	/**
+	 * Stops recording, the manifest isn't written at shutdown anymore
+	 *
+	 * @return the manifest recorded or null if not recording
+	 */
+	public synchronized WarmUpManifest stopRecording()
+	{
+		removeRecordingHook();
+		WarmUpManifest manifest = recording;
+		recording = null;
+		return manifest;
+	}
+
+	private void removeRecordingHook()
+	{
+		if (recordingHook != null)
+		{
+			try
+			{
+				Runtime.getRuntime().removeShutdownHook(recordingHook);
+			}
+			catch (IllegalStateException e)
+			{
+				// Already shutting down, the hook runs anyway
+			}
+			recordingHook = null;
+		}
+	}
+
+	/**
+	 * Creates in parallel the instantiators of the classes of a manifest recorded by
+	 * {@link #recordTo(Path)}, on as many threads as there are available processors. The classes
+	 * that don't resolve anymore are skipped and reported as failures in the result.
+	 *
+	 * @param file
+	 *            the manifest to read
+	 * @param classLoader
+	 *            the class loader to load the classes with
+	 * @return the result of the warm-up with its failures and duration
+	 */
+	public WarmUpResult warmUpFrom(Path file, ClassLoader classLoader)
+	{
+		return warmUpFrom(file, classLoader, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Same as {@link #warmUpFrom(Path, ClassLoader)} with a given maximum number of threads
+	 *
+	 * @param file
+	 *            the manifest to read
+	 * @param classLoader
+	 *            the class loader to load the classes with
+	 * @param parallelism
+	 *            the maximum number of threads to use
+	 * @return the result of the warm-up with its failures and duration
+	 */
+	public WarmUpResult warmUpFrom(Path file, ClassLoader classLoader, int parallelism)
+	{
+		long start = System.nanoTime();
+		Map<String, Throwable> failures = new HashMap<>();
+		return WarmUp.warmUp(this, WarmUpManifest.read(file).resolve(classLoader, failures),
+			parallelism, failures, start);
 	}
 
 	@Override
@@ -81,7 +400,9 @@ public class ObjenesisBase implements Objenesis
 	}
 
 	/**
-	 * Will create a new object without any constructor being called
+	 * Will create a new object without any constructor being called. The arguments are ignored
+	 * unless this Objenesis is {@link #isUsingInitArgs() using them}, in which case they are
+	 * passed to the instantiator of their signature.
 	 *
 	 * @param clazz
 	 *            Class to instantiate
@@ -91,7 +412,27 @@ public class ObjenesisBase implements Objenesis
 	 */
 	public <T> T newInstance(Class<T> clazz, Object... initArgs)
 	{
-		return getInstantiatorOf(clazz).newInstance();
+		if (!useInitArgs || initArgs == null || initArgs.length == 0)
+		{
+			return newInstance(clazz);
+		}
+		ObjectInstantiator<T> instantiator = getInstantiatorOf(clazz, initArgs);
+		if (!FlightRecorderSupport.isEnabled())
+		{
+			return instantiator.newInstance(initArgs);
+		}
+		return FlightRecorderSupport.newInstance(clazz, instantiator, initArgs);
+	}
+
+	@Override
+	public <T> T newInstance(Class<T> clazz)
+	{
+		ObjectInstantiator<T> instantiator = getInstantiatorOf(clazz);
+		if (!FlightRecorderSupport.isEnabled())
+		{
+			return instantiator.newInstance();
+		}
+		return FlightRecorderSupport.newInstance(clazz, instantiator, ClassUtils.EMPTY_ARGUMENTS);
 	}
 
 	/**
@@ -105,7 +446,6 @@ public class ObjenesisBase implements Objenesis
 	 *            an optional array of objects to be passed as arguments to the constructor call
 	 * @return Instantiator dedicated to the class
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> ObjectInstantiator<T> getInstantiatorOf(Class<T> clazz, Object... initArgs)
 	{
 		if (clazz.isPrimitive())
@@ -114,18 +454,264 @@ public class ObjenesisBase implements Objenesis
 		}
 		if (cache == null)
 		{
-			return strategy.newInstantiatorOf(clazz, initArgs);
+			return newInstantiatorOf(clazz, initArgs);
+		}
+		if (useInitArgs)
+		{
+			return getSignatureInstantiatorOf(clazz, initArgs);
 		}
-		ObjectInstantiator<?> instantiator = cache.get(clazz.getName());
+		ObjectInstantiator<T> instantiator = cache.get(clazz);
 		if (instantiator == null)
 		{
-			ObjectInstantiator<?> newInstantiator = strategy.newInstantiatorOf(clazz, initArgs);
-			instantiator = cache.putIfAbsent(clazz.getName(), newInstantiator);
+			instantiator = createInstantiatorOf(clazz, initArgs);
+		}
+		return instantiator;
+	}
+
+	/**
+	 * Gets the instantiator of the class of the given name. Each name is resolved only once per
+	 * class loader, the names that don't resolve being remembered too, so that once warmed up no
+	 * class loader is walked. Call {@link #clearClassNames()} if a class loader defines classes
+	 * after their name was looked up.
+	 *
+	 * @param className
+	 *            the binary name of the class to instantiate
+	 * @param classLoader
+	 *            the class loader to load the class with, null for the bootstrap one
+	 * @return Instantiator dedicated to the class
+	 * @throws ObjenesisException
+	 *             wrapping a {@link ClassNotFoundException} if the class can't be loaded
+	 */
+	@Override
+	public <T> ObjectInstantiator<T> getInstantiatorOf(String className, ClassLoader classLoader)
+	{
+		Class<T> type = resolveClass(className, classLoader);
+		if (type == null)
+		{
+			throw new ObjenesisException(new ClassNotFoundException(className));
+		}
+		return getInstantiatorOf(type);
+	}
+
+	/**
+	 * Probes the class of the given name for an instantiator without throwing any exception. The
+	 * name is resolved like by {@link #getInstantiatorOf(String, ClassLoader)} and the class
+	 * probed like by {@link #tryGetInstantiatorOf(Class)}.
+	 *
+	 * @param className
+	 *            the binary name of the class to instantiate
+	 * @param classLoader
+	 *            the class loader to load the class with, null for the bootstrap one
+	 * @return Instantiator dedicated to the class or empty if the class can't be loaded or
+	 *         instantiated
+	 */
+	@Override
+	public <T> Optional<ObjectInstantiator<T>> tryGetInstantiatorOf(String className,
+		ClassLoader classLoader)
+	{
+		Class<T> type = resolveClass(className, classLoader);
+		return type == null ? Optional.empty() : tryGetInstantiatorOf(type);
+	}
+
+	/**
+	 * Gets the class of the given name the way the name-based methods do, resolving each name
+	 * only once per class loader. The class isn't initialized.
+	 *
+	 * @param <T>
+	 *            the type of the class
+	 * @param className
+	 *            the binary name of the class
+	 * @param classLoader
+	 *            the class loader to load the class with, null for the bootstrap one
+	 * @return the class or null if it can't be loaded
+	 */
+	public <T> Class<T> resolveClass(String className, ClassLoader classLoader)
+	{
+		return classNames.resolve(className, classLoader);
+	}
+
+	/**
+	 * Forgets the classes resolved by name, including the names that didn't resolve
+	 */
+	public void clearClassNames()
+	{
+		classNames.clear();
+	}
+
+	/**
+	 * Probes the given class for an instantiator without throwing any exception. The classes the
+	 * strategy knows it doesn't support are rejected up front, and the classes whose instantiator
+	 * failed to be created are remembered until {@link #clearCache()}, so probing them again costs
+	 * a lookup and no exception.
+	 *
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return Instantiator dedicated to the class or empty if the class can't be instantiated
+	 */
+	@Override
+	public <T> Optional<ObjectInstantiator<T>> tryGetInstantiatorOf(Class<T> clazz)
+	{
+		Probe probe = probes.get(clazz);
+		int generation = failureGeneration;
+		if (probe.reason != null || probe.failedGeneration == generation)
+		{
+			return Optional.empty();
+		}
+		try
+		{
+			ObjectInstantiator<T> instantiator = getInstantiatorOf(clazz);
+			probe.supported = true;
+			return Optional.of(instantiator);
+		}
+		catch (RuntimeException | LinkageError e)
+		{
+			probe.failedGeneration = generation;
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Tells without throwing any exception why the given class can't be instantiated. The answer
+	 * is remembered like by {@link #tryGetInstantiatorOf(Class)}, and once an instantiator of a
+	 * class was created, the class is known to be supported and isn't created again only to be
+	 * checked.
+	 *
+	 * @param clazz
+	 *            Class to check
+	 * @return the reason why the class can't be instantiated or null if it can
+	 */
+	@Override
+	public UnsupportedReason getUnsupportedReason(Class<?> clazz)
+	{
+		Probe probe = probes.get(clazz);
+		if (probe.reason != null || probe.supported)
+		{
+			return probe.reason;
+		}
+		return tryGetInstantiatorOf(clazz).isEmpty() ? UnsupportedReason.INSTANTIATOR_FAILED : null;
+	}
+
+	/**
+	 * Gets the instantiator of a class for the signature of the given arguments, created on first
+	 * use and cached in the {@link SignatureInstantiators} entry of the class
+	 *
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param initArgs
+	 *            the arguments to be passed to the constructor call, null or empty meaning none
+	 * @return Instantiator dedicated to the class and argument signature
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> ObjectInstantiator<T> getSignatureInstantiatorOf(Class<T> clazz, Object[] initArgs)
+	{
+		ObjectInstantiator<T> instantiators = cache.get(clazz);
+		if (instantiators == null)
+		{
+			instantiators = new SignatureInstantiators<>(clazz);
+			ObjectInstantiator<T> existing = cache.putIfAbsent(clazz, instantiators);
+			if (existing != null)
+			{
+				instantiators = existing;
+			}
+		}
+		return ((SignatureInstantiators<T>)instantiators).get(initArgs);
+	}
+
+	/**
+	 * Creates and caches the instantiator of a class missing in the cache. Only one thread calls
+	 * the strategy for a given class, the other threads asking for it at the same time wait for the
+	 * result.
+	 *
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param initArgs
+	 *            an optional array of objects to be passed as arguments to the constructor call
+	 * @return Instantiator dedicated to the class
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> ObjectInstantiator<T> createInstantiatorOf(Class<T> clazz, Object... initArgs)
+	{
+		PendingCreation creation = new PendingCreation();
+		PendingCreation pending = creations.putIfAbsent(clazz, creation);
+		if (pending != null)
+		{
+			return (ObjectInstantiator<T>)await(clazz, pending);
+		}
+		try
+		{
+			// Another thread may have published it between the miss and the registration
+			ObjectInstantiator<T> instantiator = cache.peek(clazz);
 			if (instantiator == null)
 			{
-				instantiator = newInstantiator;
+				long start = System.nanoTime();
+				instantiator = newInstantiatorOf(clazz, initArgs);
+				cache.recordLoad(System.nanoTime() - start);
+				ObjectInstantiator<T> existing = cache.putIfAbsent(clazz, instantiator);
+				if (existing != null)
+				{
+					instantiator = existing;
+				}
+			}
+			creation.complete(instantiator);
+			return instantiator;
+		}
+		catch (RuntimeException | Error e)
+		{
+			creation.completeExceptionally(e);
+			throw e;
+		}
+		finally
+		{
+			creations.remove(clazz, creation);
+		}
+	}
+
+	/**
+	 * Asks the strategy for a new instantiator, recording it as a flight recorder event if the
+	 * {@link FlightRecorderSupport} is enabled and in the warm-up manifest if recording
+	 *
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param initArgs
+	 *            an optional array of objects to be passed as arguments to the constructor call
+	 * @return Instantiator dedicated to the class
+	 */
+	private <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> clazz, Object... initArgs)
+	{
+		ObjectInstantiator<T> instantiator = FlightRecorderSupport.isEnabled()
+			? FlightRecorderSupport.newInstantiatorOf(strategy, clazz, initArgs)
+			: strategy.newInstantiatorOf(clazz, initArgs);
+		WarmUpManifest manifest = recording;
+		if (manifest != null)
+		{
+			manifest.record(clazz, instantiator.getClass());
+		}
+		return instantiator;
+	}
+
+	private static ObjectInstantiator<?> await(Class<?> clazz, PendingCreation pending)
+	{
+		if (pending.creator == Thread.currentThread())
+		{
+			throw new ObjenesisException(
+				"Recursive creation of the instantiator of " + clazz.getName());
+		}
+		try
+		{
+			return pending.join();
+		}
+		catch (CompletionException e)
+		{
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error)
+			{
+				throw (Error)cause;
 			}
+			throw new ObjenesisException(cause);
 		}
-		return (ObjectInstantiator<T>)instantiator;
 	}
 }
@@ -60,6 +60,21 @@ public final class ObjenesisHelper
 		return OBJENESIS_STD.newInstance(clazz, initArgs);
 	}
 
+	/**
+	 * Same as {@link #newInstance(Class, Object...)} without arguments but no varargs array is
+	 * created
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return New instance of clazz
+	 */
+	public static <T> T newInstance(Class<T> clazz)
+	{
+		return OBJENESIS_STD.newInstance(clazz);
+	}
+
 	/**
 	 * Will create an object just like it's done by ObjectInputStream.readObject (the default
 	 * constructor of the first non serializable class will be called)
@@ -78,6 +93,21 @@ public final class ObjenesisHelper
 		return OBJENESIS_SERIALIZER.newInstance(clazz, initArgs);
 	}
 
+	/**
+	 * Same as {@link #newSerializableInstance(Class, Object...)} without arguments but no varargs
+	 * array is created
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return New instance of clazz
+	 */
+	public static <T extends Serializable> T newSerializableInstance(Class<T> clazz)
+	{
+		return OBJENESIS_SERIALIZER.newInstance(clazz);
+	}
+
 	/**
 	 * Will pick the best instantiator for the provided class. If you need to create a lot of
 	 * instances from the same class, it is way more efficient to create them from the same
@@ -96,6 +126,21 @@ public final class ObjenesisHelper
 		return OBJENESIS_STD.getInstantiatorOf(clazz, initArgs);
 	}
 
+	/**
+	 * Same as {@link #getInstantiatorOf(Class, Object...)} without arguments but no varargs array
+	 * is created
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return Instantiator dedicated to the class
+	 */
+	public static <T> ObjectInstantiator<T> getInstantiatorOf(Class<T> clazz)
+	{
+		return OBJENESIS_STD.getInstantiatorOf(clazz);
+	}
+
 	/**
 	 * Same as {@link #getInstantiatorOf(Class, Object...)} but providing an instantiator emulating
 	 * ObjectInputStream.readObject behavior.
@@ -114,4 +159,20 @@ public final class ObjenesisHelper
 	{
 		return OBJENESIS_SERIALIZER.getInstantiatorOf(clazz, initArgs);
 	}
+
+	/**
+	 * Same as {@link #getSerializableObjectInstantiatorOf(Class, Object...)} without arguments but
+	 * no varargs array is created
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param clazz
+	 *            Class to instantiate
+	 * @return Instantiator dedicated to the class
+	 */
+	public static <T extends Serializable> ObjectInstantiator<T> getSerializableObjectInstantiatorOf(
+		Class<T> clazz)
+	{
+		return OBJENESIS_SERIALIZER.getInstantiatorOf(clazz);
+	}
 }
@@ -24,6 +24,7 @@
  */
 package io.github.astrapi69.modjenesis;
 
+import io.github.astrapi69.modjenesis.cache.InstantiatorCache;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 import io.github.astrapi69.modjenesis.strategy.SerializingInstantiatorStrategy;
 
@@ -54,4 +55,16 @@ public class ObjenesisSerializer extends ObjenesisBase
 	{
 		super(new SerializingInstantiatorStrategy(), useCache);
 	}
+
+	/**
+	 * Instance using the {@link SerializingInstantiatorStrategy} and caching the
+	 * {@link ObjectInstantiator}s in the given cache
+	 *
+	 * @param cache
+	 *            Cache of the {@link ObjectInstantiator}s or null if no caching should be used
+	 */
+	public ObjenesisSerializer(InstantiatorCache cache)
+	{
+		super(new SerializingInstantiatorStrategy(), cache);
+	}
 }
@@ -24,6 +24,7 @@
  */
 package io.github.astrapi69.modjenesis;
 
+import io.github.astrapi69.modjenesis.cache.InstantiatorCache;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 import io.github.astrapi69.modjenesis.strategy.StdInstantiatorStrategy;
 
@@ -54,4 +55,16 @@ public class ObjenesisStd extends ObjenesisBase
 	{
 		super(new StdInstantiatorStrategy(), useCache);
 	}
+
+	/**
+	 * Instance using the {@link StdInstantiatorStrategy} and caching the
+	 * {@link ObjectInstantiator}s in the given cache
+	 *
+	 * @param cache
+	 *            Cache of the {@link ObjectInstantiator}s or null if no caching should be used
+	 */
+	public ObjenesisStd(InstantiatorCache cache)
+	{
+		super(new StdInstantiatorStrategy(), cache);
+	}
 }
@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * The reasons why a class can't be instantiated, as reported by the probing methods of
+ * {@link Objenesis} without throwing any exception
+ *
+ * @author Asterios Raptis
+ * @see Objenesis#getUnsupportedReason(Class)
+ */
+public enum UnsupportedReason
+{
+
+	/** The class is a primitive type */
+	PRIMITIVE,
+
+	/** The class is an array type, to create with {@link java.lang.reflect.Array} instead */
+	ARRAY,
+
+	/** The class is an interface, including annotation types */
+	INTERFACE,
+
+	/** The class is abstract */
+	ABSTRACT,
+
+	/** The class isn't serializable and instances are created the way serialization does */
+	NOT_SERIALIZABLE,
+
+	/** The first non-serializable superclass of the class has no no-arg constructor */
+	NO_SERIALIZATION_CONSTRUCTOR,
+
+	/** The strategy failed to create the instantiator of the class */
+	INSTANTIATOR_FAILED;
+
+	/**
+	 * Checks if a class is of a kind no instantiator can create instances of
+	 *
+	 * @param type
+	 *            the class to check
+	 * @return the reason why the class can't be instantiated or null if its kind can be
+	 */
+	public static UnsupportedReason ofType(Class<?> type)
+	{
+		if (type.isPrimitive())
+		{
+			return PRIMITIVE;
+		}
+		if (type.isArray())
+		{
+			return ARRAY;
+		}
+		if (type.isInterface())
+		{
+			return INTERFACE;
+		}
+		if (Modifier.isAbstract(type.getModifiers()))
+		{
+			return ABSTRACT;
+		}
+		return null;
+	}
+}
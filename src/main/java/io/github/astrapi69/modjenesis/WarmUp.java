@@ -0,0 +1,254 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Creates the instantiators of a set of classes in parallel, so that their first use doesn't pay
+ * for it. Used by the warm-up methods of {@link Objenesis}.
+ *
+ * @author Asterios Raptis
+ */
+final class WarmUp
+{
+
+	private static final String CLASS_SUFFIX = ".class";
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private WarmUp()
+	{
+	}
+
+	/**
+	 * Gets the instantiator of each class on a fixed pool of daemon threads
+	 *
+	 * @param objenesis
+	 *            the Objenesis to warm up
+	 * @param classes
+	 *            the classes to get the instantiator of
+	 * @param parallelism
+	 *            the maximum number of threads to use
+	 * @param failures
+	 *            the failures already known, by class name, completed with the ones of the classes
+	 * @param start
+	 *            the {@link System#nanoTime()} at the start of the warm-up
+	 * @return the result of the warm-up
+	 */
+	static WarmUpResult warmUp(Objenesis objenesis, Collection<? extends Class<?>> classes,
+		int parallelism, Map<String, Throwable> failures, long start)
+	{
+		if (parallelism < 1)
+		{
+			throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+		}
+		Map<String, Throwable> allFailures = new ConcurrentHashMap<>(failures);
+		AtomicInteger warmedUp = new AtomicInteger();
+		List<Callable<Void>> tasks = new ArrayList<>(classes.size());
+		for (Class<?> type : classes)
+		{
+			tasks.add(() -> {
+				try
+				{
+					objenesis.getInstantiatorOf(type);
+					warmedUp.incrementAndGet();
+				}
+				catch (RuntimeException | LinkageError e)
+				{
+					allFailures.put(type.getName(), e);
+				}
+				return null;
+			});
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(parallelism, Math.max(1, tasks.size())), WarmUp::newThread);
+		try
+		{
+			for (Future<Void> future : executor.invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new ObjenesisException("Interrupted while warming up", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new ObjenesisException(e.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+		return new WarmUpResult(warmedUp.get(), new TreeMap<>(allFailures),
+			Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * Loads, without initializing them, the concrete classes of a package and its sub-packages
+	 * found in the directories and jars of a class loader. The classes that can't be loaded are
+	 * added to the given failures.
+	 *
+	 * @param packagePrefix
+	 *            the name of the package, like <code>com.example</code>
+	 * @param classLoader
+	 *            the class loader to scan and load the classes with
+	 * @param failures
+	 *            where to add the classes that can't be loaded, by class name
+	 * @return the concrete classes found
+	 */
+	static List<Class<?>> scan(String packagePrefix, ClassLoader classLoader,
+		Map<String, Throwable> failures)
+	{
+		String path = packagePrefix.replace('.', '/');
+		Set<String> names = new TreeSet<>();
+		try
+		{
+			Enumeration<URL> roots = classLoader.getResources(path);
+			while (roots.hasMoreElements())
+			{
+				addClassNames(roots.nextElement(), path, names);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new ObjenesisException("Can't scan the package " + packagePrefix, e);
+		}
+		List<Class<?>> classes = new ArrayList<>(names.size());
+		for (String name : names)
+		{
+			try
+			{
+				Class<?> type = Class.forName(name, false, classLoader);
+				if (isConcrete(type))
+				{
+					classes.add(type);
+				}
+			}
+			catch (ClassNotFoundException | LinkageError e)
+			{
+				failures.put(name, e);
+			}
+		}
+		return classes;
+	}
+
+	private static void addClassNames(URL root, String path, Set<String> names)
+		throws IOException
+	{
+		if ("file".equals(root.getProtocol()))
+		{
+			Path directory;
+			try
+			{
+				directory = Paths.get(root.toURI());
+			}
+			catch (URISyntaxException e)
+			{
+				throw new IOException(e);
+			}
+			try (Stream<Path> files = Files.walk(directory))
+			{
+				files.map(file -> path + "/" + directory.relativize(file).toString()
+					.replace(directory.getFileSystem().getSeparator(), "/"))
+					.forEach(entry -> addClassName(entry, names));
+			}
+			catch (UncheckedIOException e)
+			{
+				throw e.getCause();
+			}
+		}
+		else if ("jar".equals(root.getProtocol()))
+		{
+			JarURLConnection connection = (JarURLConnection)root.openConnection();
+			connection.setUseCaches(false);
+			try (JarFile jar = connection.getJarFile())
+			{
+				Enumeration<JarEntry> entries = jar.entries();
+				while (entries.hasMoreElements())
+				{
+					String entry = entries.nextElement().getName();
+					if (entry.startsWith(path + "/"))
+					{
+						addClassName(entry, names);
+					}
+				}
+			}
+		}
+	}
+
+	private static void addClassName(String entry, Set<String> names)
+	{
+		if (entry.endsWith(CLASS_SUFFIX) && !entry.endsWith("module-info" + CLASS_SUFFIX)
+			&& !entry.endsWith("package-info" + CLASS_SUFFIX))
+		{
+			names.add(entry.substring(0, entry.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+		}
+	}
+
+	private static boolean isConcrete(Class<?> type)
+	{
+		return !type.isInterface() && !type.isAnnotation()
+			&& !Modifier.isAbstract(type.getModifiers());
+	}
+
+	private static Thread newThread(Runnable runnable)
+	{
+		Thread thread = new Thread(runnable,
+			"modjenesis-warm-up-" + THREAD_COUNT.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -0,0 +1,210 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Names of the classes whose instantiator was created, with the type of the instantiator chosen
+ * for them. Recorded by an {@link ObjenesisBase} during a training run, written to a file and read
+ * back at the next start to warm up the instantiators before the first use. The file is plain
+ * UTF-8 text with one class per line, followed by a tab and the instantiator type, sorted by class
+ * name.
+ *
+ * @author Asterios Raptis
+ * @see ObjenesisBase#recordTo(Path)
+ * @see ObjenesisBase#warmUpFrom(Path, ClassLoader)
+ */
+public final class WarmUpManifest
+{
+
+	private static final String HEADER = "# modjenesis warm-up manifest";
+
+	private static final char SEPARATOR = '\t';
+
+	/** Key = class name, Value = instantiator class name */
+	private final ConcurrentMap<String, String> entries = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Creates an empty manifest
+	 */
+	public WarmUpManifest()
+	{
+	}
+
+	/**
+	 * Records the creation of the instantiator of a class. Hidden classes are ignored since they
+	 * can't be found by name.
+	 *
+	 * @param type
+	 *            the class instantiated
+	 * @param instantiatorType
+	 *            the class of its instantiator
+	 */
+	public void record(Class<?> type, Class<?> instantiatorType)
+	{
+		if (!type.isHidden())
+		{
+			entries.put(type.getName(), instantiatorType.getName());
+		}
+	}
+
+	/**
+	 * @return the instantiator class name of each recorded class, sorted by class name
+	 */
+	public Map<String, String> getEntries()
+	{
+		return Collections.unmodifiableMap(entries);
+	}
+
+	/**
+	 * @return the number of recorded classes
+	 */
+	public int size()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * Writes the manifest, replacing the file only once it is complete
+	 *
+	 * @param file
+	 *            the file to write
+	 * @throws ObjenesisException
+	 *             if the file can't be written
+	 */
+	public void write(Path file)
+	{
+		Path absolute = file.toAbsolutePath();
+		try
+		{
+			Path temporary = Files.createTempFile(absolute.getParent(),
+				absolute.getFileName().toString(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary,
+				StandardCharsets.UTF_8))
+			{
+				writer.write(HEADER);
+				writer.newLine();
+				for (Map.Entry<String, String> entry : entries.entrySet())
+				{
+					writer.write(entry.getKey());
+					writer.write(SEPARATOR);
+					writer.write(entry.getValue());
+					writer.newLine();
+				}
+			}
+			Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException e)
+		{
+			throw new ObjenesisException("Can't write the warm-up manifest " + file, e);
+		}
+	}
+
+	/**
+	 * Reads a manifest written by {@link #write(Path)}
+	 *
+	 * @param file
+	 *            the file to read
+	 * @return the manifest read
+	 * @throws ObjenesisException
+	 *             if the file can't be read
+	 */
+	public static WarmUpManifest read(Path file)
+	{
+		WarmUpManifest manifest = new WarmUpManifest();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty() || line.startsWith("#"))
+				{
+					continue;
+				}
+				int separator = line.indexOf(SEPARATOR);
+				if (separator < 0)
+				{
+					manifest.entries.put(line, "");
+				}
+				else
+				{
+					manifest.entries.put(line.substring(0, separator),
+						line.substring(separator + 1));
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new ObjenesisException("Can't read the warm-up manifest " + file, e);
+		}
+		return manifest;
+	}
+
+	/**
+	 * Loads, without initializing them, the recorded classes. The classes that don't resolve
+	 * anymore are skipped and added to the given failures.
+	 *
+	 * @param classLoader
+	 *            the class loader to load the classes with
+	 * @param failures
+	 *            where to add the classes that can't be loaded, by class name
+	 * @return the classes loaded
+	 */
+	List<Class<?>> resolve(ClassLoader classLoader, Map<String, Throwable> failures)
+	{
+		List<Class<?>> classes = new ArrayList<>(entries.size());
+		for (String name : entries.keySet())
+		{
+			try
+			{
+				classes.add(Class.forName(name, false, classLoader));
+			}
+			catch (ClassNotFoundException | LinkageError e)
+			{
+				failures.put(name, e);
+			}
+		}
+		return classes;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "WarmUpManifest{size=" + entries.size() + "}";
+	}
+}
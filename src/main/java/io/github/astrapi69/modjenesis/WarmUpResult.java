@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of a warm-up of the instantiators of a set of classes
+ *
+ * @author Asterios Raptis
+ * @see Objenesis#warmUp(java.util.Collection)
+ */
+public final class WarmUpResult
+{
+
+	private final int warmedUpCount;
+	private final Map<String, Throwable> failures;
+	private final Duration duration;
+
+	/**
+	 * Creates the result of a warm-up
+	 *
+	 * @param warmedUpCount
+	 *            the number of classes whose instantiator was created
+	 * @param failures
+	 *            the failure of each class whose instantiator couldn't be created, by class name
+	 * @param duration
+	 *            the total time of the warm-up
+	 */
+	public WarmUpResult(int warmedUpCount, Map<String, Throwable> failures, Duration duration)
+	{
+		this.warmedUpCount = warmedUpCount;
+		this.failures = Collections.unmodifiableMap(failures);
+		this.duration = duration;
+	}
+
+	/**
+	 * @return the number of classes whose instantiator was created
+	 */
+	public int getWarmedUpCount()
+	{
+		return warmedUpCount;
+	}
+
+	/**
+	 * @return the failure of each class whose instantiator couldn't be created, by class name
+	 */
+	public Map<String, Throwable> getFailures()
+	{
+		return failures;
+	}
+
+	/**
+	 * @return true if the instantiators of all the classes were created
+	 */
+	public boolean isSuccessful()
+	{
+		return failures.isEmpty();
+	}
+
+	/**
+	 * @return the total time of the warm-up
+	 */
+	public Duration getDuration()
+	{
+		return duration;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "WarmUpResult{warmedUp=" + warmedUpCount + ", failures=" + failures.keySet()
+			+ ", duration=" + duration.toMillis() + "ms}";
+	}
+}
@@ -0,0 +1,316 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * {@link InstantiatorCache} holding at most a maximum number of instantiators. When the maximum is
+ * exceeded, the least frequently used instantiators are evicted. The eviction is a generalized
+ * clock: a hand sweeps over the entries, evicts the first one with a zero frequency and halves the
+ * frequency of the other ones it passes, so old frequencies age out.
+ * <p>
+ * Classes are only weakly referenced by the cache. Like in {@link ClassValueInstantiatorCache}, the
+ * instantiators are stored in a slot attached to their class, so an instantiator holding its class
+ * doesn't keep it alive. When a class loader is collected, the entries of its classes are dropped
+ * and don't count against the maximum size anymore.
+ *
+ * @author Asterios Raptis
+ */
+public class BoundedInstantiatorCache implements InstantiatorCache
+{
+
+	/** Frequency at which the counter of an entry stops growing */
+	private static final int MAXIMUM_FREQUENCY = 15;
+
+	/**
+	 * Index entry of a cached class. Holds the class weakly and counts how often its instantiator
+	 * was used since the hand last passed by.
+	 */
+	private static final class Entry extends WeakReference<Class<?>>
+	{
+		int frequency = 1;
+
+		Entry(Class<?> type, ReferenceQueue<Class<?>> queue)
+		{
+			super(type, queue);
+		}
+	}
+
+	/** Per-class slot holding the cached instantiator and its index entry */
+	private static final class Slot
+	{
+		volatile ObjectInstantiator<?> instantiator;
+		Entry entry;
+	}
+
+	private final int maximumSize;
+
+	private final Set<Entry> entries = ConcurrentHashMap.newKeySet();
+
+	private final ReferenceQueue<Class<?>> collectedClasses = new ReferenceQueue<>();
+
+	/** Guards all modifications of the entries and the slots */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Statistics of this cache. Null if they are not recorded */
+	private final StatisticsCounter statistics;
+
+	private volatile ClassValue<Slot> slots = newSlots();
+
+	private Iterator<Entry> hand;
+
+	/**
+	 * Creates a cache not recording any statistics
+	 *
+	 * @param maximumSize
+	 *            Maximum number of cached instantiators
+	 */
+	public BoundedInstantiatorCache(int maximumSize)
+	{
+		this(maximumSize, false);
+	}
+
+	/**
+	 * Creates a cache recording statistics or not
+	 *
+	 * @param maximumSize
+	 *            Maximum number of cached instantiators
+	 * @param recordStatistics
+	 *            If hits, misses, evictions and load times should be recorded
+	 */
+	public BoundedInstantiatorCache(int maximumSize, boolean recordStatistics)
+	{
+		if (maximumSize <= 0)
+		{
+			throw new IllegalArgumentException("The maximum size must be positive");
+		}
+		this.maximumSize = maximumSize;
+		this.statistics = recordStatistics ? new StatisticsCounter() : null;
+	}
+
+	private static ClassValue<Slot> newSlots()
+	{
+		return new ClassValue<>()
+		{
+			@Override
+			protected Slot computeValue(Class<?> type)
+			{
+				return new Slot();
+			}
+		};
+	}
+
+	/**
+	 * @return the maximum number of cached instantiators
+	 */
+	public int getMaximumSize()
+	{
+		return maximumSize;
+	}
+
+	@Override
+	public int size()
+	{
+		return entries.size();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ObjectInstantiator<T> get(Class<T> type)
+	{
+		Slot slot = slots.get(type);
+		ObjectInstantiator<T> instantiator = (ObjectInstantiator<T>)slot.instantiator;
+		if (instantiator == null)
+		{
+			if (statistics != null)
+			{
+				statistics.recordMiss();
+			}
+			return null;
+		}
+		Entry entry = slot.entry;
+		// Racy increment on purpose, the frequency is only an estimation
+		if (entry != null && entry.frequency < MAXIMUM_FREQUENCY)
+		{
+			entry.frequency++;
+		}
+		if (statistics != null)
+		{
+			statistics.recordHit();
+		}
+		return instantiator;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ObjectInstantiator<T> peek(Class<T> type)
+	{
+		return (ObjectInstantiator<T>)slots.get(type).instantiator;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ObjectInstantiator<T> putIfAbsent(Class<T> type, ObjectInstantiator<T> instantiator)
+	{
+		lock.lock();
+		try
+		{
+			expungeCollectedClasses();
+			Slot slot = slots.get(type);
+			ObjectInstantiator<T> existing = (ObjectInstantiator<T>)slot.instantiator;
+			if (existing != null)
+			{
+				return existing;
+			}
+			Entry entry = new Entry(type, collectedClasses);
+			slot.entry = entry;
+			slot.instantiator = instantiator;
+			entries.add(entry);
+			while (entries.size() > maximumSize)
+			{
+				evict();
+			}
+			return null;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void remove(Class<?> type)
+	{
+		lock.lock();
+		try
+		{
+			Slot slot = slots.get(type);
+			if (slot.entry != null)
+			{
+				entries.remove(slot.entry);
+			}
+			slot.entry = null;
+			slot.instantiator = null;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear()
+	{
+		lock.lock();
+		try
+		{
+			slots = newSlots();
+			entries.clear();
+			hand = null;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void recordLoad(long loadTime)
+	{
+		if (statistics != null)
+		{
+			statistics.recordLoad(loadTime);
+		}
+	}
+
+	@Override
+	public CacheStatistics getStatistics()
+	{
+		return statistics == null ? new CacheStatistics(0, 0, 0, 0, 0) : statistics.snapshot();
+	}
+
+	/**
+	 * Moves the hand until it finds an entry with a zero frequency and evicts it. Must be called
+	 * with the lock held and at least one entry present.
+	 */
+	private void evict()
+	{
+		while (true)
+		{
+			if (hand == null || !hand.hasNext())
+			{
+				hand = entries.iterator();
+			}
+			Entry entry = hand.next();
+			if (entry.frequency > 0)
+			{
+				entry.frequency >>= 1;
+				continue;
+			}
+			if (!entries.remove(entry))
+			{
+				// Already removed, the iterator is only weakly consistent
+				continue;
+			}
+			Class<?> type = entry.get();
+			if (type != null)
+			{
+				Slot slot = slots.get(type);
+				if (slot.entry == entry)
+				{
+					slot.entry = null;
+					slot.instantiator = null;
+				}
+			}
+			if (statistics != null)
+			{
+				statistics.recordEviction();
+			}
+			return;
+		}
+	}
+
+	/**
+	 * Drops the entries of the classes that were garbage collected. Must be called with the lock
+	 * held.
+	 */
+	private void expungeCollectedClasses()
+	{
+		Reference<? extends Class<?>> reference;
+		while ((reference = collectedClasses.poll()) != null)
+		{
+			entries.remove(reference);
+		}
+	}
+}
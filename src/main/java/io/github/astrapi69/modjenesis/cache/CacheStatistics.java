@@ -0,0 +1,136 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.cache;
+
+/**
+ * Immutable snapshot of the statistics of an {@link InstantiatorCache}. All times are in
+ * nanoseconds.
+ *
+ * @author Asterios Raptis
+ */
+public final class CacheStatistics
+{
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadCount;
+	private final long totalLoadTime;
+	private final long evictionCount;
+
+	/**
+	 * @param hitCount
+	 *            Number of lookups that found a cached instantiator
+	 * @param missCount
+	 *            Number of lookups that found no cached instantiator
+	 * @param loadCount
+	 *            Number of instantiators created because of a miss
+	 * @param totalLoadTime
+	 *            Time spent creating these instantiators
+	 * @param evictionCount
+	 *            Number of instantiators evicted to respect the maximum size of the cache
+	 */
+	public CacheStatistics(long hitCount, long missCount, long loadCount, long totalLoadTime,
+		long evictionCount)
+	{
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadCount = loadCount;
+		this.totalLoadTime = totalLoadTime;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * @return number of lookups that found a cached instantiator
+	 */
+	public long getHitCount()
+	{
+		return hitCount;
+	}
+
+	/**
+	 * @return number of lookups that found no cached instantiator
+	 */
+	public long getMissCount()
+	{
+		return missCount;
+	}
+
+	/**
+	 * @return number of lookups
+	 */
+	public long getRequestCount()
+	{
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return ratio of lookups that found a cached instantiator or 1 if there was no lookup
+	 */
+	public double getHitRate()
+	{
+		long requestCount = getRequestCount();
+		return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+	}
+
+	/**
+	 * @return number of instantiators created because of a miss
+	 */
+	public long getLoadCount()
+	{
+		return loadCount;
+	}
+
+	/**
+	 * @return time spent creating instantiators
+	 */
+	public long getTotalLoadTime()
+	{
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return average time spent creating an instantiator or 0 if none was created
+	 */
+	public double getAverageLoadPenalty()
+	{
+		return loadCount == 0 ? 0.0 : (double)totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return number of instantiators evicted to respect the maximum size of the cache
+	 */
+	public long getEvictionCount()
+	{
+		return evictionCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + "[hitCount=" + hitCount + ", missCount=" + missCount
+			+ ", loadCount=" + loadCount + ", totalLoadTime=" + totalLoadTime + ", evictionCount="
+			+ evictionCount + "]";
+	}
+}
@@ -0,0 +1,184 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * {@link InstantiatorCache} backed by a {@link ClassValue}. The instantiator is stored in a slot
+ * attached to the class itself, so a lookup is a per-class slot read without any hashing of the
+ * class name. As the entry lives with the class, an unloaded class doesn't keep its instantiator
+ * alive. Statistics are only recorded if asked at construction since counting hits costs on every
+ * lookup.
+ * <p>
+ * Lookups and puts don't take any lock. Removals and clears are serialized, and a removed slot is
+ * marked so that a put that fetched it before can't fill it anymore.
+ *
+ * @author Asterios Raptis
+ */
+public class ClassValueInstantiatorCache implements InstantiatorCache
+{
+
+	/** Content of a slot being removed from its class, never returned by the lookups */
+	private static final ObjectInstantiator<?> REMOVED = initArgs -> null;
+
+	/** Slots holding the instantiators. Replaced as a whole, with their count, on clear */
+	private volatile Slots slots = new Slots();
+
+	/** Statistics of this cache. Null if they are not recorded */
+	private final StatisticsCounter statistics;
+
+	/**
+	 * Creates a cache not recording any statistics
+	 */
+	public ClassValueInstantiatorCache()
+	{
+		this(false);
+	}
+
+	/**
+	 * Creates a cache recording statistics or not
+	 *
+	 * @param recordStatistics
+	 *            If hits, misses and load times should be recorded
+	 */
+	public ClassValueInstantiatorCache(boolean recordStatistics)
+	{
+		this.statistics = recordStatistics ? new StatisticsCounter() : null;
+	}
+
+	/**
+	 * The slot of each class, with the number of slots filled. A ClassValue can't be iterated, so
+	 * they are counted on the side, by the same object so that the puts still running on the slots
+	 * replaced by a clear are not counted with the new ones. Classes unloaded while cached are
+	 * still counted.
+	 */
+	private static final class Slots extends ClassValue<AtomicReference<ObjectInstantiator<?>>>
+	{
+		final AtomicInteger size = new AtomicInteger();
+
+		@Override
+		protected AtomicReference<ObjectInstantiator<?>> computeValue(Class<?> type)
+		{
+			return new AtomicReference<>();
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> ObjectInstantiator<T> read(Class<T> type)
+		{
+			ObjectInstantiator<?> instantiator = get(type).get();
+			return instantiator == REMOVED ? null : (ObjectInstantiator<T>)instantiator;
+		}
+	}
+
+	@Override
+	public <T> ObjectInstantiator<T> get(Class<T> type)
+	{
+		ObjectInstantiator<T> instantiator = slots.read(type);
+		if (statistics != null)
+		{
+			if (instantiator == null)
+			{
+				statistics.recordMiss();
+			}
+			else
+			{
+				statistics.recordHit();
+			}
+		}
+		return instantiator;
+	}
+
+	@Override
+	public <T> ObjectInstantiator<T> peek(Class<T> type)
+	{
+		return slots.read(type);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ObjectInstantiator<T> putIfAbsent(Class<T> type, ObjectInstantiator<T> instantiator)
+	{
+		Slots slots = this.slots;
+		while (true)
+		{
+			AtomicReference<ObjectInstantiator<?>> slot = slots.get(type);
+			if (slot.compareAndSet(null, instantiator))
+			{
+				slots.size.incrementAndGet();
+				return null;
+			}
+			ObjectInstantiator<?> existing = slot.get();
+			if (existing != REMOVED)
+			{
+				return (ObjectInstantiator<T>)existing;
+			}
+			// the slot is being removed from the class, the next one is about to replace it
+			Thread.onSpinWait();
+		}
+	}
+
+	@Override
+	public synchronized void remove(Class<?> type)
+	{
+		Slots slots = this.slots;
+		ObjectInstantiator<?> removed = slots.get(type).getAndSet(REMOVED);
+		if (removed != null && removed != REMOVED)
+		{
+			slots.size.decrementAndGet();
+		}
+		slots.remove(type);
+	}
+
+	@Override
+	public synchronized void clear()
+	{
+		slots = new Slots();
+	}
+
+	@Override
+	public int size()
+	{
+		return slots.size.get();
+	}
+
+	@Override
+	public void recordLoad(long loadTime)
+	{
+		if (statistics != null)
+		{
+			statistics.recordLoad(loadTime);
+		}
+	}
+
+	@Override
+	public CacheStatistics getStatistics()
+	{
+		return statistics == null ? new CacheStatistics(0, 0, 0, 0, 0) : statistics.snapshot();
+	}
+}
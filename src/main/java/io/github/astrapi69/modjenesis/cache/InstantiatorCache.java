@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.cache;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Defines a cache of {@link ObjectInstantiator}s keyed by the class they instantiate. Keys are
+ * compared by identity, so two classes with the same name from different class loaders have their
+ * own entries.
+ *
+ * @author Asterios Raptis
+ */
+public interface InstantiatorCache
+{
+
+	/**
+	 * Returns the instantiator cached for the given class
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param type
+	 *            Class the instantiator is dedicated to
+	 * @return the cached instantiator or null if there is none
+	 */
+	<T> ObjectInstantiator<T> get(Class<T> type);
+
+	/**
+	 * Same as {@link #get(Class)} but without recording a hit or a miss in the statistics
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param type
+	 *            Class the instantiator is dedicated to
+	 * @return the cached instantiator or null if there is none
+	 */
+	<T> ObjectInstantiator<T> peek(Class<T> type);
+
+	/**
+	 * Caches the given instantiator if there is no instantiator cached for the given class yet
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param type
+	 *            Class the instantiator is dedicated to
+	 * @param instantiator
+	 *            Instantiator to cache
+	 * @return the instantiator that was already cached or null if the given one was cached
+	 */
+	<T> ObjectInstantiator<T> putIfAbsent(Class<T> type, ObjectInstantiator<T> instantiator);
+
+	/**
+	 * Removes the instantiator cached for the given class
+	 *
+	 * @param type
+	 *            Class the instantiator is dedicated to
+	 */
+	void remove(Class<?> type);
+
+	/**
+	 * Removes all cached instantiators
+	 */
+	void clear();
+
+	/**
+	 * Returns the number of cached instantiators. It is approximate while other threads update the
+	 * cache.
+	 *
+	 * @return the number of cached instantiators
+	 */
+	int size();
+
+	/**
+	 * Records the time spent creating an instantiator after a miss. Ignored if the cache doesn't
+	 * record statistics.
+	 *
+	 * @param loadTime
+	 *            Time in nanoseconds spent creating the instantiator
+	 */
+	void recordLoad(long loadTime);
+
+	/**
+	 * Returns a snapshot of the statistics of this cache. All counters are 0 if the cache doesn't
+	 * record statistics.
+	 *
+	 * @return the statistics of this cache
+	 */
+	CacheStatistics getStatistics();
+}
@@ -24,6 +24,10 @@
  */
 package io.github.astrapi69.modjenesis.instantiator;
 
+import java.util.Collection;
+
+import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
+
 /**
  * Instantiates a new object.
  * 
@@ -42,4 +46,59 @@ public interface ObjectInstantiator<T>
 	 */
 	T newInstance(Object... initArgs);
 
+	/**
+	 * Returns a new instance of an object without passing any argument. Unlike
+	 * {@link #newInstance(Object...)} called without arguments, no varargs array is created. The
+	 * built-in instantiators implement it without any allocation beyond the object itself.
+	 *
+	 * @return A new instance of an object.
+	 */
+	default T newInstance()
+	{
+		return newInstance(ClassUtils.EMPTY_ARGUMENTS);
+	}
+
+	/**
+	 * Fills the given array with new instances, one per element. Instantiators that can do better
+	 * than calling {@link #newInstance()} for each element may run their setup once for the whole
+	 * batch. The built-in ones don't: once inlined, the loop over newInstance() is as tight as a
+	 * dedicated batch path, as measured by the BulkBenchmark.
+	 *
+	 * @param instances
+	 *            the array to fill
+	 * @return the given array
+	 */
+	default T[] newInstances(T[] instances)
+	{
+		for (int i = 0; i < instances.length; i++)
+		{
+			instances[i] = newInstance();
+		}
+		return instances;
+	}
+
+	/**
+	 * Adds the given count of new instances to the given collection
+	 *
+	 * @param <C>
+	 *            the type of the collection
+	 * @param instances
+	 *            the collection to add the new instances to
+	 * @param count
+	 *            the count of new instances to add
+	 * @return the given collection
+	 */
+	default <C extends Collection<? super T>> C newInstances(C instances, int count)
+	{
+		if (count < 0)
+		{
+			throw new IllegalArgumentException("Negative count of instances: " + count);
+		}
+		for (int i = 0; i < count; i++)
+		{
+			instances.add(newInstance());
+		}
+		return instances;
+	}
+
 }
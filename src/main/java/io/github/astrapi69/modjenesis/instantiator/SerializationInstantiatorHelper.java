@@ -24,16 +24,59 @@
  */
 package io.github.astrapi69.modjenesis.instantiator;
 
+import java.io.NotSerializableException;
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
 
 /**
- * Helper for common serialization-compatible instantiation functions
+ * Helper for common serialization-compatible instantiation functions. The first non-serializable
+ * superclass of each class and the no-arg constructor of each such superclass are resolved once and
+ * shared by all the serialization instantiators, since many serializable classes usually share a
+ * few non-serializable bases.
  * 
  * @author Leonardo Mesquita
  */
 public class SerializationInstantiatorHelper
 {
 
+	/** First non-serializable superclass of each class, resolved through the one of its parent */
+	private static final ClassValue<Class<?>> NON_SERIALIZABLE_SUPER_CLASSES = new ClassValue<>()
+	{
+		@Override
+		protected Class<?> computeValue(Class<?> type)
+		{
+			if (!Serializable.class.isAssignableFrom(type))
+			{
+				return type;
+			}
+			Class<?> parent = type.getSuperclass();
+			if (parent == null)
+			{
+				throw new Error("Bad class hierarchy: No non-serializable parents");
+			}
+			return get(parent);
+		}
+	};
+
+	/** Declared no-arg constructor of each non-serializable superclass, null if it has none */
+	private static final ClassValue<Constructor<?>> NO_ARG_CONSTRUCTORS = new ClassValue<>()
+	{
+		@Override
+		protected Constructor<?> computeValue(Class<?> type)
+		{
+			try
+			{
+				return type.getDeclaredConstructor((Class<?>[])null);
+			}
+			catch (NoSuchMethodException e)
+			{
+				return null;
+			}
+		}
+	};
+
 	/**
 	 * Returns the first non-serializable superclass of a given class. According to Java Object
 	 * Serialization Specification, objects read from a stream are initialized by calling an
@@ -47,18 +90,76 @@ public class SerializationInstantiatorHelper
 	 * @return The first non-serializable superclass of 'type'.
 	 * @see java.io.Serializable
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> Class<? super T> getNonSerializableSuperClass(Class<T> type)
 	{
-		Class<? super T> result = type;
-		while (Serializable.class.isAssignableFrom(result))
+		return (Class<? super T>)NON_SERIALIZABLE_SUPER_CLASSES.get(type);
+	}
+
+	/**
+	 * Returns the declared no-arg constructor of the first non-serializable superclass of a given
+	 * class, the one serialization calls to initialize the objects read from a stream. The
+	 * constructor is looked up once per superclass, but each call returns a copy of its own that
+	 * the caller is free to make accessible. Callers in this package use the shared constructor of
+	 * {@link #nonSerializableSuperClassConstructor(Class)} instead.
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param type
+	 *            Serializable class for which the constructor is to be found
+	 * @return The no-arg constructor of the first non-serializable superclass of 'type'.
+	 * @throws ObjenesisException
+	 *             wrapping a {@link NotSerializableException} if that superclass has no no-arg
+	 *             constructor
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Constructor<? super T> getNonSerializableSuperClassConstructor(Class<T> type)
+	{
+		Constructor<? super T> constructor = nonSerializableSuperClassConstructor(type);
+		try
 		{
-			result = result.getSuperclass();
-			if (result == null)
-			{
-				throw new Error("Bad class hierarchy: No non-serializable parents");
-			}
+			return (Constructor<? super T>)constructor.getDeclaringClass()
+				.getDeclaredConstructor((Class<?>[])null);
+		}
+		catch (NoSuchMethodException e)
+		{
+			throw new ObjenesisException(e);
+		}
+	}
+
+	/**
+	 * Same as {@link #getNonSerializableSuperClassConstructor(Class)} but returning the constructor
+	 * shared by all the callers, which therefore must not make it accessible
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param type
+	 *            Serializable class for which the constructor is to be found
+	 * @return The shared no-arg constructor of the first non-serializable superclass of 'type'.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Constructor<? super T> nonSerializableSuperClassConstructor(Class<T> type)
+	{
+		Constructor<?> constructor = NO_ARG_CONSTRUCTORS.get(getNonSerializableSuperClass(type));
+		if (constructor == null)
+		{
+			throw new ObjenesisException(
+				new NotSerializableException(type + " has no suitable superclass constructor"));
 		}
-		return result;
+		return (Constructor<? super T>)constructor;
+	}
 
+	/**
+	 * Checks, without throwing, if the first non-serializable superclass of a given serializable
+	 * class has the no-arg constructor {@link #getNonSerializableSuperClassConstructor(Class)}
+	 * returns
+	 *
+	 * @param type
+	 *            Serializable class, not an interface
+	 * @return true if that superclass has a no-arg constructor
+	 */
+	public static boolean hasNonSerializableSuperClassConstructor(Class<?> type)
+	{
+		return NO_ARG_CONSTRUCTORS.get(getNonSerializableSuperClass(type)) != null;
 	}
 }
@@ -44,18 +44,20 @@ public class Android10Instantiator<T> implements ObjectInstantiator<T>
 {
 	private final Class<T> type;
 	private final Method newStaticMethod;
+	private final Object[] typeArgs;
 
 	public Android10Instantiator(Class<T> type)
 	{
 		this.type = type;
 		newStaticMethod = getNewStaticMethod();
+		typeArgs = new Object[] { type, Object.class };
 	}
 
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return type.cast(newStaticMethod.invoke(null, type, Object.class));
+			return type.cast(newStaticMethod.invoke(null, typeArgs));
 		}
 		catch (Exception e)
 		{
@@ -63,6 +65,11 @@ public class Android10Instantiator<T> implements ObjectInstantiator<T>
 		}
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 	private static Method getNewStaticMethod()
 	{
 		try
@@ -45,19 +45,21 @@ public class Android17Instantiator<T> implements ObjectInstantiator<T>
 	private final Class<T> type;
 	private final Method newInstanceMethod;
 	private final Integer objectConstructorId;
+	private final Object[] typeArgs;
 
 	public Android17Instantiator(Class<T> type)
 	{
 		this.type = type;
 		newInstanceMethod = getNewInstanceMethod();
 		objectConstructorId = findConstructorIdForJavaLangObjectConstructor();
+		typeArgs = new Object[] { type, objectConstructorId };
 	}
 
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return type.cast(newInstanceMethod.invoke(null, type, objectConstructorId));
+			return type.cast(newInstanceMethod.invoke(null, typeArgs));
 		}
 		catch (Exception e)
 		{
@@ -65,6 +67,11 @@ public class Android17Instantiator<T> implements ObjectInstantiator<T>
 		}
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 	private static Method getNewInstanceMethod()
 	{
 		try
@@ -46,10 +46,12 @@ public class AndroidSerializationInstantiator<T> implements ObjectInstantiator<T
 	private final Class<T> type;
 	private final ObjectStreamClass objectStreamClass;
 	private final Method newInstanceMethod;
+	private final Object[] typeArgs;
 
 	public AndroidSerializationInstantiator(Class<T> type)
 	{
 		this.type = type;
+		typeArgs = new Object[] { type };
 		newInstanceMethod = getNewInstanceMethod();
 		Method m;
 		try
@@ -70,11 +72,11 @@ public class AndroidSerializationInstantiator<T> implements ObjectInstantiator<T
 		}
 	}
 
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return type.cast(newInstanceMethod.invoke(objectStreamClass, type));
+			return type.cast(newInstanceMethod.invoke(objectStreamClass, typeArgs));
 		}
 		catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e)
 		{
@@ -82,6 +84,11 @@ public class AndroidSerializationInstantiator<T> implements ObjectInstantiator<T
 		}
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 	private static Method getNewInstanceMethod()
 	{
 		try
@@ -31,6 +31,7 @@ import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Instantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
 import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
+import io.github.astrapi69.modjenesis.instantiator.util.ConstructorIndex;
 
 /**
  * Instantiates a class by grabbing the no args constructor and calling Constructor.newInstance().
@@ -45,45 +46,58 @@ import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
 public class ConstructorInstantiator<T> implements ObjectInstantiator<T>
 {
 
+	/** The constructor matching the arguments given at creation, the no-arg one by default */
 	protected Constructor<T> constructor;
 
-	private final Class<T> type;
-	private Object[] initArgs;
+	private final ConstructorIndex<T> constructors;
 
 	public ConstructorInstantiator(Class<T> type, Object... initArgs)
 	{
-		try
+		this.constructors = ConstructorIndex.of(type);
+		if (initArgs != null && 0 < initArgs.length)
+		{
+			constructor = constructors.get(initArgs);
+		}
+		else
 		{
-			this.type = type;
-			this.initArgs = initArgs;
-			if (initArgs != null && 0 < initArgs.length)
+			try
 			{
-				constructor = type.getDeclaredConstructor(ClassUtils.getParameterTypes(initArgs));
+				constructor = type.getDeclaredConstructor((Class<?>[])null);
 			}
-			else
+			catch (Exception e)
 			{
-				constructor = type.getDeclaredConstructor((Class<?>[])null);
+				throw new ObjenesisException(e);
 			}
 		}
+	}
+
+	public T newInstance()
+	{
+		try
+		{
+			return constructor.newInstance(ClassUtils.EMPTY_ARGUMENTS);
+		}
 		catch (Exception e)
 		{
 			throw new ObjenesisException(e);
 		}
 	}
 
+	/**
+	 * Calls the constructor matching the types of the given arguments, looked up in the
+	 * {@link ConstructorIndex} of the class, or the constructor of this instantiator without
+	 * arguments
+	 */
 	public T newInstance(Object... initArgs)
 	{
+		if (initArgs == null || initArgs.length == 0)
+		{
+			return newInstance();
+		}
+		Constructor<T> matching = constructors.get(initArgs);
 		try
 		{
-			if (initArgs != null && 0 < initArgs.length)
-			{
-				if (this.initArgs == null || !this.initArgs.equals(initArgs))
-				{
-					constructor = this.type
-						.getDeclaredConstructor(ClassUtils.getParameterTypes(initArgs));
-				}
-			}
-			return constructor.newInstance(initArgs);
+			return matching.newInstance(initArgs);
 		}
 		catch (Exception e)
 		{
@@ -110,6 +110,12 @@ public abstract class DelegatingToExoticInstantiator<T> implements ObjectInstant
 		}
 	}
 
+	@Override
+	public T newInstance()
+	{
+		return wrapped.newInstance();
+	}
+
 	@Override
 	public T newInstance(Object... initArgs)
 	{
@@ -45,8 +45,13 @@ public class FailingInstantiator<T> implements ObjectInstantiator<T>
 	/**
 	 * @return Always throwing an exception
 	 */
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		throw new ObjenesisException("Always failing");
 	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
 }
@@ -47,6 +47,11 @@ public class NewInstanceInstantiator<T> implements ObjectInstantiator<T>
 		this.type = type;
 	}
 
+	public T newInstance()
+	{
+		return ClassUtils.newInstance(type, ClassUtils.EMPTY_ARGUMENTS);
+	}
+
 	public T newInstance(Object... initArgs)
 	{
 		return ClassUtils.newInstance(type, initArgs);
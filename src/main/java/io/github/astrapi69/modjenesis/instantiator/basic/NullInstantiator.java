@@ -44,8 +44,13 @@ public class NullInstantiator<T> implements ObjectInstantiator<T>
 	/**
 	 * @return Always null
 	 */
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		return null;
 	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
 }
@@ -33,6 +33,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectStreamClass;
 import java.io.ObjectStreamConstants;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 
 import io.github.astrapi69.modjenesis.ObjenesisException;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
@@ -44,7 +45,9 @@ import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
  * the same kind. NOTE: This instantiator may not work properly if the class being instantiated
  * defines a "readResolve" method, since it may return objects that have been returned previously
  * (i.e., there's no guarantee that the returned object is a new one), or even objects from a
- * completely different class.
+ * completely different class. It can be shared by threads, each of them reads from a stream of its
+ * own. A stream keeps a reference to every object read from it, so a thread's stream retains up to
+ * the last 64 returned objects until it is replaced or collected.
  *
  * @author Leonardo Mesquita
  * @see ObjectInstantiator
@@ -94,12 +97,16 @@ public class ObjectInputStreamInstantiator<T> implements ObjectInstantiator<T>
 
 		}
 
-		public MockStream(Class<?> clazz)
+		public MockStream(byte[] classDescriptor)
 		{
 			this.pointer = 0;
 			this.sequence = 0;
 			this.data = HEADER;
+			buffers = new byte[][] { HEADER, classDescriptor, REPEATING_DATA };
+		}
 
+		private static byte[] classDescriptorOf(Class<?> clazz)
+		{
 			// (byte) TC_OBJECT
 			// (byte) TC_CLASSDESC
 			// (short length)
@@ -126,8 +133,7 @@ public class ObjectInputStreamInstantiator<T> implements ObjectInstantiator<T>
 			{
 				throw new Error("IOException: " + e.getMessage());
 			}
-			byte[] firstData = byteOut.toByteArray();
-			buffers = new byte[][] { HEADER, firstData, REPEATING_DATA };
+			return byteOut.toByteArray();
 		}
 
 		private void advanceBuffer()
@@ -179,21 +185,58 @@ public class ObjectInputStreamInstantiator<T> implements ObjectInstantiator<T>
 		}
 	}
 
-	private final ObjectInputStream inputStream;
+	/**
+	 * Every object read registers a new handle in the stream that is never released, so a stream
+	 * is replaced by a new one after this count of objects to bound the objects it retains
+	 */
+	private static final int MAXIMUM_READS_PER_STREAM = 64;
 
-	public ObjectInputStreamInstantiator(Class<T> clazz)
+	/** The class descriptor bytes fed to the streams, computed once per class */
+	private static final ClassValue<byte[]> CLASS_DESCRIPTORS = new ClassValue<byte[]>()
 	{
-		if (Serializable.class.isAssignableFrom(clazz))
+		@Override
+		protected byte[] computeValue(Class<?> type)
+		{
+			return MockStream.classDescriptorOf(type);
+		}
+	};
+
+	/**
+	 * The stream of a thread and the count of objects read from it
+	 */
+	private static final class StreamState
+	{
+		private final ObjectInputStream inputStream;
+		private int reads;
+
+		StreamState(byte[] classDescriptor)
 		{
 			try
 			{
-				this.inputStream = new ObjectInputStream(new MockStream(clazz));
+				this.inputStream = new ObjectInputStream(new MockStream(classDescriptor));
 			}
 			catch (IOException e)
 			{
 				throw new Error("IOException: " + e.getMessage());
 			}
 		}
+	}
+
+	private final byte[] classDescriptor;
+
+	/**
+	 * Streams aren't thread-safe, so every thread reads from a stream of its own. The stream is
+	 * only weakly reachable from the thread, so pooled threads don't keep the returned objects and
+	 * the class loader alive after the instantiator is gone
+	 */
+	private final ThreadLocal<WeakReference<StreamState>> streamState = new ThreadLocal<>();
+
+	public ObjectInputStreamInstantiator(Class<T> clazz)
+	{
+		if (Serializable.class.isAssignableFrom(clazz))
+		{
+			this.classDescriptor = CLASS_DESCRIPTORS.get(clazz);
+		}
 		else
 		{
 			throw new ObjenesisException(new NotSerializableException(clazz + " not serializable"));
@@ -201,11 +244,19 @@ public class ObjectInputStreamInstantiator<T> implements ObjectInstantiator<T>
 	}
 
 	@SuppressWarnings("unchecked")
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
+		WeakReference<StreamState> reference = streamState.get();
+		StreamState state = reference == null ? null : reference.get();
+		if (state == null || state.reads == MAXIMUM_READS_PER_STREAM)
+		{
+			state = new StreamState(classDescriptor);
+			streamState.set(new WeakReference<>(state));
+		}
+		state.reads++;
 		try
 		{
-			return (T)inputStream.readObject();
+			return (T)state.inputStream.readObject();
 		}
 		catch (ClassNotFoundException e)
 		{
@@ -216,4 +267,9 @@ public class ObjectInputStreamInstantiator<T> implements ObjectInstantiator<T>
 			throw new ObjenesisException(e);
 		}
 	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
 }
@@ -31,6 +31,7 @@ import io.github.astrapi69.modjenesis.ObjenesisException;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Instantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
+import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
 
 /**
  * Instantiates a class by using reflection to make a call to private method
@@ -39,6 +40,7 @@ import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
  * no-arg constructor.
  *
  * @author Leonardo Mesquita
+ * @see ObjectStreamClassMethodHandleInstantiator
  * @see ObjectInstantiator
  * @see java.io.Serializable
  */
@@ -46,7 +48,7 @@ import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
 public class ObjectStreamClassInstantiator<T> implements ObjectInstantiator<T>
 {
 
-	private static Method newInstanceMethod;
+	private static volatile Method newInstanceMethod;
 
 	private static void initialize()
 	{
@@ -54,8 +56,9 @@ public class ObjectStreamClassInstantiator<T> implements ObjectInstantiator<T>
 		{
 			try
 			{
-				newInstanceMethod = ObjectStreamClass.class.getDeclaredMethod("newInstance");
-				newInstanceMethod.setAccessible(true);
+				Method method = ObjectStreamClass.class.getDeclaredMethod("newInstance");
+				method.setAccessible(true);
+				newInstanceMethod = method;
 			}
 			catch (RuntimeException | NoSuchMethodException e)
 			{
@@ -73,12 +76,12 @@ public class ObjectStreamClassInstantiator<T> implements ObjectInstantiator<T>
 	}
 
 	@SuppressWarnings("unchecked")
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 
 		try
 		{
-			return (T)newInstanceMethod.invoke(objStreamClass);
+			return (T)newInstanceMethod.invoke(objStreamClass, ClassUtils.EMPTY_ARGUMENTS);
 		}
 		catch (Exception e)
 		{
@@ -87,4 +90,9 @@ public class ObjectStreamClassInstantiator<T> implements ObjectInstantiator<T>
 
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 }
@@ -0,0 +1,138 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.basic;
+
+import java.io.NotSerializableException;
+import java.io.ObjectStreamClass;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.annotations.Instantiator;
+import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
+
+/**
+ * Variant of the {@link ObjectStreamClassInstantiator} calling the private method
+ * ObjectStreamClass.newInstance through a {@link MethodHandle} instead of {@link Method#invoke}.
+ * The method is unreflected once, by the initialization of a holder class, so it is safely
+ * published to all the threads and, held in a static final field, a constant the JIT can inline
+ * through. The ObjectStreamClass of a class is cached per class, so it is looked up only once.
+ * <p>
+ * Like the {@link ObjectStreamClassInstantiator}, it needs the package java.io to be opened to
+ * this module, and it creates classes in a way compatible with serialization, calling the first
+ * non-serializable superclass' no-arg constructor.
+ * <p>
+ * It is the one the {@link io.github.astrapi69.modjenesis.strategy.SerializingInstantiatorStrategy}
+ * uses where ObjectStreamClass is the way to create the instances.
+ *
+ * @author Asterios Raptis
+ * @see ObjectInstantiator
+ * @see java.io.Serializable
+ */
+@Instantiator(Typology.SERIALIZATION)
+public class ObjectStreamClassMethodHandleInstantiator<T> implements ObjectInstantiator<T>
+{
+
+	/**
+	 * Holder of ObjectStreamClass.newInstance, unreflected when first used. A failure is kept to
+	 * be rethrown on each use.
+	 */
+	private static final class NewInstance
+	{
+		static final MethodHandle METHOD;
+
+		static final ObjenesisException FAILURE;
+
+		static
+		{
+			MethodHandle method = null;
+			ObjenesisException failure = null;
+			try
+			{
+				Method newInstance = ObjectStreamClass.class.getDeclaredMethod("newInstance");
+				newInstance.setAccessible(true);
+				method = MethodHandles.lookup().unreflect(newInstance)
+					.asType(MethodType.methodType(Object.class, ObjectStreamClass.class));
+			}
+			catch (RuntimeException | ReflectiveOperationException e)
+			{
+				failure = new ObjenesisException(e);
+			}
+			METHOD = method;
+			FAILURE = failure;
+		}
+	}
+
+	/** The ObjectStreamClass of each class, looked up once */
+	private static final ClassValue<ObjectStreamClass> OBJECT_STREAM_CLASSES = new ClassValue<>()
+	{
+		@Override
+		protected ObjectStreamClass computeValue(Class<?> type)
+		{
+			return ObjectStreamClass.lookup(type);
+		}
+	};
+
+	private final ObjectStreamClass objStreamClass;
+
+	public ObjectStreamClassMethodHandleInstantiator(Class<T> type)
+	{
+		if (NewInstance.FAILURE != null)
+		{
+			throw new ObjenesisException(NewInstance.FAILURE.getCause());
+		}
+		objStreamClass = OBJECT_STREAM_CLASSES.get(type);
+		if (objStreamClass == null)
+		{
+			throw new ObjenesisException(new NotSerializableException(type + " not serializable"));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public T newInstance()
+	{
+		try
+		{
+			return (T)NewInstance.METHOD.invokeExact(objStreamClass);
+		}
+		catch (RuntimeException | Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			throw new ObjenesisException(e);
+		}
+	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
+}
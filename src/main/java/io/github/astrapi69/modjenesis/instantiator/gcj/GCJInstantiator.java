@@ -41,17 +41,20 @@ import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
 @Instantiator(Typology.STANDARD)
 public class GCJInstantiator<T> extends GCJInstantiatorBase<T>
 {
+	private final Object[] typeArgs;
+
 	public GCJInstantiator(Class<T> type)
 	{
 		super(type);
+		typeArgs = new Object[] { type, Object.class };
 	}
 
 	@Override
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return type.cast(newObjectMethod.invoke(dummyStream, type, Object.class));
+			return type.cast(newObjectMethod.invoke(dummyStream, typeArgs));
 		}
 		catch (RuntimeException | IllegalAccessException | InvocationTargetException e)
 		{
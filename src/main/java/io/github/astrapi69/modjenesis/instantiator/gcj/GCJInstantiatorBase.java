@@ -76,5 +76,10 @@ public abstract class GCJInstantiatorBase<T> implements ObjectInstantiator<T>
 		initialize();
 	}
 
-	public abstract T newInstance(Object... initArgs);
+	public abstract T newInstance();
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
 }
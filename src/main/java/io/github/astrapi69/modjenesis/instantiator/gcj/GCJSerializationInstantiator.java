@@ -41,20 +41,22 @@ import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
 @Instantiator(Typology.SERIALIZATION)
 public class GCJSerializationInstantiator<T> extends GCJInstantiatorBase<T>
 {
-	private final Class<? super T> superType;
+	private final Object[] typeArgs;
 
 	public GCJSerializationInstantiator(Class<T> type)
 	{
 		super(type);
-		this.superType = SerializationInstantiatorHelper.getNonSerializableSuperClass(type);
+		Class<? super T> superType = SerializationInstantiatorHelper
+			.getNonSerializableSuperClass(type);
+		this.typeArgs = new Object[] { type, superType };
 	}
 
 	@Override
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return type.cast(newObjectMethod.invoke(dummyStream, type, superType));
+			return type.cast(newObjectMethod.invoke(dummyStream, typeArgs));
 		}
 		catch (Exception e)
 		{
@@ -66,7 +66,7 @@ public class PercInstantiator<T> implements ObjectInstantiator<T>
 	}
 
 	@SuppressWarnings("unchecked")
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
@@ -78,4 +78,9 @@ public class PercInstantiator<T> implements ObjectInstantiator<T>
 		}
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 }
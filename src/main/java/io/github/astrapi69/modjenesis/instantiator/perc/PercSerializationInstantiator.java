@@ -25,12 +25,12 @@
 package io.github.astrapi69.modjenesis.instantiator.perc;
 
 import java.io.ObjectInputStream;
-import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import io.github.astrapi69.modjenesis.ObjenesisException;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.SerializationInstantiatorHelper;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Instantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
 
@@ -56,12 +56,8 @@ public class PercSerializationInstantiator<T> implements ObjectInstantiator<T>
 	{
 
 		// Find the first unserializable parent class
-		Class<? super T> unserializableType = type;
-
-		while (Serializable.class.isAssignableFrom(unserializableType))
-		{
-			unserializableType = unserializableType.getSuperclass();
-		}
+		Class<? super T> unserializableType = SerializationInstantiatorHelper
+			.getNonSerializableSuperClass(type);
 
 		try
 		{
@@ -92,7 +88,7 @@ public class PercSerializationInstantiator<T> implements ObjectInstantiator<T>
 	}
 
 	@SuppressWarnings("unchecked")
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
@@ -104,4 +100,9 @@ public class PercSerializationInstantiator<T> implements ObjectInstantiator<T>
 		}
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 }
@@ -0,0 +1,309 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.sun;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.stream.LongStream;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.util.UnsafeUtils;
+import sun.misc.Unsafe;
+
+/**
+ * Recycles the instances of a class instead of allocating new ones. Instances given back with
+ * {@link #release(Object)} are reset to the state {@link UnsafeFactoryInstantiator} creates them
+ * in, all fields zero or null, through {@code sun.misc.Unsafe} and the field offsets computed once
+ * at creation. {@link #newInstance()} hands them out again before asking the wrapped instantiator
+ * for a new instance.
+ * <p>
+ * Every thread keeps its released instances in a free list of its own, so pooling doesn't need any
+ * synchronization in the common case. When that list is full, the instances overflow to a list
+ * shared by all threads, holding at most the maximum size given at creation. The instances
+ * released when both are full are left to the garbage collector.
+ * <p>
+ * Only the exact class of the instantiator can be released, and an instance must not be used
+ * anymore once released. Being a wrapper handing out recycled instances, it has no
+ * {@link io.github.astrapi69.modjenesis.instantiator.annotations.Typology} of its own.
+ *
+ * @author Asterios Raptis
+ * @see ObjectInstantiator
+ */
+@SuppressWarnings("restriction")
+public class PoolingInstantiator<T> implements ObjectInstantiator<T>
+{
+
+	/** The default maximum count of instances in the free list of a thread */
+	public static final int DEFAULT_LOCAL_CAPACITY = 32;
+
+	private final ObjectInstantiator<T> instantiator;
+	private final Class<T> type;
+	private final Unsafe unsafe;
+	private final int localCapacity;
+
+	private final long[] referenceOffsets;
+	private final long[] longOffsets;
+	private final long[] intOffsets;
+	private final long[] shortOffsets;
+	private final long[] byteOffsets;
+
+	private final ArrayBlockingQueue<T> sharedFreeList;
+	private final ThreadLocal<FreeList> localFreeList;
+
+	/**
+	 * Pools the instances of the given class created by an {@link UnsafeFactoryInstantiator}
+	 *
+	 * @param type
+	 *            Class to instantiate
+	 * @param maximumSize
+	 *            the maximum count of instances in the list shared by all threads
+	 */
+	public PoolingInstantiator(Class<T> type, int maximumSize)
+	{
+		this(new UnsafeFactoryInstantiator<>(type), type, maximumSize,
+			Math.min(maximumSize, DEFAULT_LOCAL_CAPACITY));
+	}
+
+	/**
+	 * Pools the instances of the given class created by the given instantiator. It must create
+	 * them without calling any constructor, since a recycled instance has all its fields zero or
+	 * null.
+	 *
+	 * @param instantiator
+	 *            the instantiator creating the instances when no released one is available
+	 * @param type
+	 *            Class to instantiate
+	 * @param maximumSize
+	 *            the maximum count of instances in the list shared by all threads
+	 * @param localCapacity
+	 *            the maximum count of instances in the free list of a thread
+	 */
+	public PoolingInstantiator(ObjectInstantiator<T> instantiator, Class<T> type, int maximumSize,
+		int localCapacity)
+	{
+		if (maximumSize <= 0)
+		{
+			throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+		}
+		if (localCapacity < 0)
+		{
+			throw new IllegalArgumentException(
+				"Local capacity must not be negative: " + localCapacity);
+		}
+		this.instantiator = instantiator;
+		this.type = type;
+		this.unsafe = UnsafeUtils.getUnsafe();
+		this.localCapacity = localCapacity;
+		this.sharedFreeList = new ArrayBlockingQueue<>(maximumSize);
+		this.localFreeList = ThreadLocal.withInitial(() -> new FreeList(localCapacity));
+
+		FieldOffsets offsets = new FieldOffsets(type);
+		this.referenceOffsets = offsets.references.build().toArray();
+		this.longOffsets = offsets.longs.build().toArray();
+		this.intOffsets = offsets.ints.build().toArray();
+		this.shortOffsets = offsets.shorts.build().toArray();
+		this.byteOffsets = offsets.bytes.build().toArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	public T newInstance()
+	{
+		T instance = (T)localFreeList.get().pop();
+		if (instance == null)
+		{
+			instance = sharedFreeList.poll();
+			if (instance == null)
+			{
+				instance = instantiator.newInstance();
+			}
+		}
+		return instance;
+	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
+	/**
+	 * Gives back an instance to be handed out again by {@link #newInstance()}. Its fields are
+	 * reset right away, so the pool doesn't keep alive the objects it referenced.
+	 *
+	 * @param instance
+	 *            the instance to recycle
+	 * @throws IllegalArgumentException
+	 *             if the class of the instance isn't exactly the class of this instantiator
+	 */
+	public void release(T instance)
+	{
+		if (instance.getClass() != type)
+		{
+			throw new IllegalArgumentException(instance.getClass().getName()
+				+ " can't be released to a pool of " + type.getName());
+		}
+		reset(instance);
+		if (!localFreeList.get().push(instance))
+		{
+			sharedFreeList.offer(instance);
+		}
+	}
+
+	/**
+	 * @return the count of instances in the list shared by all threads
+	 */
+	public int getSharedSize()
+	{
+		return sharedFreeList.size();
+	}
+
+	/**
+	 * @return the maximum count of instances in the free list of a thread
+	 */
+	public int getLocalCapacity()
+	{
+		return localCapacity;
+	}
+
+	private void reset(Object instance)
+	{
+		for (long offset : referenceOffsets)
+		{
+			unsafe.putObject(instance, offset, null);
+		}
+		for (long offset : longOffsets)
+		{
+			unsafe.putLong(instance, offset, 0L);
+		}
+		for (long offset : intOffsets)
+		{
+			unsafe.putInt(instance, offset, 0);
+		}
+		for (long offset : shortOffsets)
+		{
+			unsafe.putShort(instance, offset, (short)0);
+		}
+		for (long offset : byteOffsets)
+		{
+			unsafe.putByte(instance, offset, (byte)0);
+		}
+	}
+
+	/**
+	 * Bounded stack of the instances released by a thread
+	 */
+	private static final class FreeList
+	{
+		private final Object[] instances;
+		private int size;
+
+		FreeList(int capacity)
+		{
+			instances = new Object[capacity];
+		}
+
+		Object pop()
+		{
+			if (size == 0)
+			{
+				return null;
+			}
+			Object instance = instances[--size];
+			instances[size] = null;
+			return instance;
+		}
+
+		boolean push(Object instance)
+		{
+			if (size == instances.length)
+			{
+				return false;
+			}
+			instances[size++] = instance;
+			return true;
+		}
+	}
+
+	/**
+	 * The offsets of the instance fields of a class and its superclasses, grouped by size
+	 */
+	private final class FieldOffsets
+	{
+		final LongStream.Builder references = LongStream.builder();
+		final LongStream.Builder longs = LongStream.builder();
+		final LongStream.Builder ints = LongStream.builder();
+		final LongStream.Builder shorts = LongStream.builder();
+		final LongStream.Builder bytes = LongStream.builder();
+
+		FieldOffsets(Class<?> type)
+		{
+			for (Class<?> c = type; c != null; c = c.getSuperclass())
+			{
+				for (Field field : c.getDeclaredFields())
+				{
+					if (!Modifier.isStatic(field.getModifiers()))
+					{
+						builderOf(field.getType()).add(offsetOf(field));
+					}
+				}
+			}
+		}
+
+		private LongStream.Builder builderOf(Class<?> fieldType)
+		{
+			if (!fieldType.isPrimitive())
+			{
+				return references;
+			}
+			if (fieldType == long.class || fieldType == double.class)
+			{
+				return longs;
+			}
+			if (fieldType == int.class || fieldType == float.class)
+			{
+				return ints;
+			}
+			if (fieldType == short.class || fieldType == char.class)
+			{
+				return shorts;
+			}
+			return bytes;
+		}
+
+		private long offsetOf(Field field)
+		{
+			try
+			{
+				return unsafe.objectFieldOffset(field);
+			}
+			catch (UnsupportedOperationException e)
+			{
+				// fields of hidden classes and records have no offset
+				throw new ObjenesisException(e);
+			}
+		}
+	}
+}
@@ -24,8 +24,9 @@
  */
 package io.github.astrapi69.modjenesis.instantiator.sun;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import io.github.astrapi69.modjenesis.ObjenesisException;
@@ -34,30 +35,159 @@ import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 
 /**
  * Helper methods providing access to {@link sun.reflect.ReflectionFactory} via reflection, for use
- * by the {@link ObjectInstantiator}s that use it.
+ * by the {@link ObjectInstantiator}s that use it, and to the serialization hooks of a class. The
+ * factory and its methods are resolved once, on first use, and then called through method
+ * handles.
  * 
  * @author Henri Tremblay
  */
 @SuppressWarnings("restriction")
-class SunReflectionFactoryHelper
+public class SunReflectionFactoryHelper
 {
 
+	/**
+	 * The ReflectionFactory methods bound to the factory, the serialization hooks being null if
+	 * the ReflectionFactory of this JVM has none. Resolved when first used, by the class
+	 * initialization, so that nothing is looked up on platforms without ReflectionFactory until an
+	 * instantiator needs it. A failure is kept to be rethrown on each use.
+	 */
+	private static final class Bootstrap
+	{
+		static final MethodHandle NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+		static final MethodHandle READ_OBJECT_FOR_SERIALIZATION;
+		static final MethodHandle READ_RESOLVE_FOR_SERIALIZATION;
+		static final MethodHandle WRITE_REPLACE_FOR_SERIALIZATION;
+
+		/** Why the ReflectionFactory couldn't be resolved, null if it was */
+		static final ObjenesisException FAILURE;
+
+		static
+		{
+			MethodHandle newConstructor = null;
+			MethodHandle readObject = null;
+			MethodHandle readResolve = null;
+			MethodHandle writeReplace = null;
+			ObjenesisException failure = null;
+			try
+			{
+				Class<?> reflectionFactoryClass = getReflectionFactoryClass();
+				Object reflectionFactory = createReflectionFactory(reflectionFactoryClass);
+				newConstructor = bind(reflectionFactory, reflectionFactoryClass,
+					"newConstructorForSerialization", true, Class.class, Constructor.class);
+				readObject = bind(reflectionFactory, reflectionFactoryClass,
+					"readObjectForSerialization", false, Class.class);
+				readResolve = bind(reflectionFactory, reflectionFactoryClass,
+					"readResolveForSerialization", false, Class.class);
+				writeReplace = bind(reflectionFactory, reflectionFactoryClass,
+					"writeReplaceForSerialization", false, Class.class);
+			}
+			catch (ObjenesisException e)
+			{
+				failure = e;
+			}
+			catch (RuntimeException e)
+			{
+				// e.g. a SecurityException or an InaccessibleObjectException, which would otherwise
+				// fail the class initialization for good
+				failure = new ObjenesisException(e);
+			}
+			NEW_CONSTRUCTOR_FOR_SERIALIZATION = newConstructor;
+			READ_OBJECT_FOR_SERIALIZATION = readObject;
+			READ_RESOLVE_FOR_SERIALIZATION = readResolve;
+			WRITE_REPLACE_FOR_SERIALIZATION = writeReplace;
+			FAILURE = failure;
+		}
+
+		/**
+		 * @return the given method, null if it is a serialization hook the ReflectionFactory of
+		 *         this JVM doesn't have
+		 */
+		static MethodHandle require(MethodHandle method)
+		{
+			if (FAILURE != null)
+			{
+				throw new ObjenesisException(FAILURE.getCause());
+			}
+			return method;
+		}
+	}
+
+	private SunReflectionFactoryHelper()
+	{
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <T> Constructor<T> newConstructorForSerialization(Class<T> type,
 		Constructor<?> constructor)
 	{
-		Class<?> reflectionFactoryClass = getReflectionFactoryClass();
-		Object reflectionFactory = createReflectionFactory(reflectionFactoryClass);
+		try
+		{
+			MethodHandle newConstructorForSerialization = Bootstrap
+				.require(Bootstrap.NEW_CONSTRUCTOR_FOR_SERIALIZATION);
+			return (Constructor<T>)(Constructor<?>)newConstructorForSerialization
+				.invokeExact((Class<?>)type, constructor);
+		}
+		catch (RuntimeException | Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			throw new ObjenesisException(e);
+		}
+	}
+
+	/**
+	 * @param type
+	 *            a serializable class
+	 * @return a method handle calling the private readObject(ObjectInputStream) method of the class
+	 *         on an instance, or null if the class or the ReflectionFactory of this JVM has none
+	 */
+	public static MethodHandle readObjectForSerialization(Class<?> type)
+	{
+		return invokeHook(Bootstrap.READ_OBJECT_FOR_SERIALIZATION, type);
+	}
+
+	/**
+	 * @param type
+	 *            a serializable class
+	 * @return a method handle calling the readResolve() method of the class on an instance, or
+	 *         null if the class has none accessible from it or the ReflectionFactory of this JVM
+	 *         has none
+	 */
+	public static MethodHandle readResolveForSerialization(Class<?> type)
+	{
+		return invokeHook(Bootstrap.READ_RESOLVE_FOR_SERIALIZATION, type);
+	}
 
-		Method newConstructorForSerializationMethod = getNewConstructorForSerializationMethod(
-			reflectionFactoryClass);
+	/**
+	 * @param type
+	 *            a serializable class
+	 * @return a method handle calling the writeReplace() method of the class on an instance, or
+	 *         null if the class has none accessible from it or the ReflectionFactory of this JVM
+	 *         has none
+	 */
+	public static MethodHandle writeReplaceForSerialization(Class<?> type)
+	{
+		return invokeHook(Bootstrap.WRITE_REPLACE_FOR_SERIALIZATION, type);
+	}
 
+	private static MethodHandle invokeHook(MethodHandle hook, Class<?> type)
+	{
+		MethodHandle method = Bootstrap.require(hook);
+		if (method == null)
+		{
+			return null;
+		}
 		try
 		{
-			return (Constructor<T>)newConstructorForSerializationMethod.invoke(reflectionFactory,
-				type, constructor);
+			return (MethodHandle)method.invokeExact(type);
 		}
-		catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e)
+		catch (RuntimeException | Error e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
 		{
 			throw new ObjenesisException(e);
 		}
@@ -82,21 +212,34 @@ class SunReflectionFactoryHelper
 			Method method = reflectionFactoryClass.getDeclaredMethod("getReflectionFactory");
 			return method.invoke(null);
 		}
-		catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException
-			| IllegalArgumentException e)
+		catch (ReflectiveOperationException | IllegalArgumentException e)
 		{
 			throw new ObjenesisException(e);
 		}
 	}
 
-	private static Method getNewConstructorForSerializationMethod(Class<?> reflectionFactoryClass)
+	/**
+	 * Looks up a method of the ReflectionFactory and binds it to the factory
+	 *
+	 * @return the bound method handle, null if the method is missing and not required
+	 */
+	private static MethodHandle bind(Object reflectionFactory, Class<?> reflectionFactoryClass,
+		String name, boolean required, Class<?>... parameterTypes)
 	{
 		try
 		{
-			return reflectionFactoryClass.getDeclaredMethod("newConstructorForSerialization",
-				Class.class, Constructor.class);
+			Method method = reflectionFactoryClass.getDeclaredMethod(name, parameterTypes);
+			return MethodHandles.publicLookup().unreflect(method).bindTo(reflectionFactory);
 		}
 		catch (NoSuchMethodException e)
+		{
+			if (required)
+			{
+				throw new ObjenesisException(e);
+			}
+			return null;
+		}
+		catch (IllegalAccessException e)
 		{
 			throw new ObjenesisException(e);
 		}
@@ -30,6 +30,7 @@ import io.github.astrapi69.modjenesis.ObjenesisException;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Instantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
+import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
 
 /**
  * Instantiates an object, WITHOUT calling it's constructor, using internal
@@ -54,11 +55,11 @@ public class SunReflectionFactoryInstantiator<T> implements ObjectInstantiator<T
 		mungedConstructor.setAccessible(true);
 	}
 
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return mungedConstructor.newInstance(initArgs);
+			return mungedConstructor.newInstance(ClassUtils.EMPTY_ARGUMENTS);
 		}
 		catch (Exception e)
 		{
@@ -66,6 +67,11 @@ public class SunReflectionFactoryInstantiator<T> implements ObjectInstantiator<T
 		}
 	}
 
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
+
 	private static Constructor<Object> getJavaLangObjectConstructor()
 	{
 		try
@@ -24,7 +24,6 @@
  */
 package io.github.astrapi69.modjenesis.instantiator.sun;
 
-import java.io.NotSerializableException;
 import java.lang.reflect.Constructor;
 
 import io.github.astrapi69.modjenesis.ObjenesisException;
@@ -32,6 +31,7 @@ import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.SerializationInstantiatorHelper;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Instantiator;
 import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
+import io.github.astrapi69.modjenesis.instantiator.util.ClassUtils;
 
 /**
  * Instantiates an object using internal sun.reflect.ReflectionFactory - a class only available on
@@ -47,39 +47,46 @@ import io.github.astrapi69.modjenesis.instantiator.annotations.Typology;
 public class SunReflectionFactorySerializationInstantiator<T> implements ObjectInstantiator<T>
 {
 
-	private final Constructor<T> mungedConstructor;
-
-	public SunReflectionFactorySerializationInstantiator(Class<T> type)
+	/**
+	 * Serialization constructor of each class, shared by the instantiators of the class since the
+	 * ReflectionFactory generates a new accessor for each constructor it creates
+	 */
+	private static final ClassValue<Constructor<?>> SERIALIZATION_CONSTRUCTORS = new ClassValue<>()
 	{
-		Class<? super T> nonSerializableAncestor = SerializationInstantiatorHelper
-			.getNonSerializableSuperClass(type);
-
-		Constructor<? super T> nonSerializableAncestorConstructor;
-		try
-		{
-			nonSerializableAncestorConstructor = nonSerializableAncestor
-				.getDeclaredConstructor((Class<?>[])null);
-		}
-		catch (NoSuchMethodException e)
+		@Override
+		protected Constructor<?> computeValue(Class<?> type)
 		{
-			throw new ObjenesisException(
-				new NotSerializableException(type + " has no suitable superclass constructor"));
+			Constructor<?> ancestorConstructor = SerializationInstantiatorHelper
+				.getNonSerializableSuperClassConstructor(type);
+			Constructor<?> constructor = SunReflectionFactoryHelper
+				.newConstructorForSerialization(type, ancestorConstructor);
+			constructor.setAccessible(true);
+			return constructor;
 		}
+	};
+
+	private final Constructor<T> mungedConstructor;
 
-		mungedConstructor = SunReflectionFactoryHelper.newConstructorForSerialization(type,
-			nonSerializableAncestorConstructor);
-		mungedConstructor.setAccessible(true);
+	@SuppressWarnings("unchecked")
+	public SunReflectionFactorySerializationInstantiator(Class<T> type)
+	{
+		mungedConstructor = (Constructor<T>)SERIALIZATION_CONSTRUCTORS.get(type);
 	}
 
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
-			return mungedConstructor.newInstance(initArgs);
+			return mungedConstructor.newInstance(ClassUtils.EMPTY_ARGUMENTS);
 		}
 		catch (Exception e)
 		{
 			throw new ObjenesisException(e);
 		}
 	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
 }
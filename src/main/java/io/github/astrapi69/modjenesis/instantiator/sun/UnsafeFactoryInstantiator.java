@@ -54,7 +54,7 @@ public class UnsafeFactoryInstantiator<T> implements ObjectInstantiator<T>
 		this.type = type;
 	}
 
-	public T newInstance(Object... initArgs)
+	public T newInstance()
 	{
 		try
 		{
@@ -65,4 +65,9 @@ public class UnsafeFactoryInstantiator<T> implements ObjectInstantiator<T>
 			throw new ObjenesisException(e);
 		}
 	}
+
+	public T newInstance(Object... initArgs)
+	{
+		return newInstance();
+	}
 }
@@ -0,0 +1,167 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.util;
+
+import java.util.Arrays;
+
+/**
+ * Classes of the arguments of a call, null standing for a null argument. Used as a key to cache
+ * what depends on the types of the arguments of a call, like the constructor to call.
+ *
+ * @author Asterios Raptis
+ */
+public final class ArgumentSignature
+{
+
+	private final Class<?>[] types;
+	private final int hashCode;
+
+	private ArgumentSignature(Class<?>[] types)
+	{
+		this.types = types;
+		this.hashCode = Arrays.hashCode(types);
+	}
+
+	/**
+	 * @param args
+	 *            the arguments of a call, null meaning none
+	 * @return the signature of the arguments
+	 */
+	public static ArgumentSignature of(Object... args)
+	{
+		Object[] arguments = args == null ? ClassUtils.EMPTY_ARGUMENTS : args;
+		Class<?>[] types = new Class<?>[arguments.length];
+		for (int i = 0; i < arguments.length; i++)
+		{
+			types[i] = arguments[i] == null ? null : arguments[i].getClass();
+		}
+		return new ArgumentSignature(types);
+	}
+
+	/**
+	 * Checks without allocating if the given arguments have this signature
+	 *
+	 * @param args
+	 *            the arguments of a call, null meaning none
+	 * @return true if the arguments have this signature
+	 */
+	public boolean matches(Object... args)
+	{
+		Object[] arguments = args == null ? ClassUtils.EMPTY_ARGUMENTS : args;
+		if (arguments.length != types.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < arguments.length; i++)
+		{
+			Class<?> argumentType = arguments[i] == null ? null : arguments[i].getClass();
+			if (argumentType != types[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of arguments
+	 */
+	public int size()
+	{
+		return types.length;
+	}
+
+	/**
+	 * @param index
+	 *            the index of an argument
+	 * @return the class of the argument or null if it is null
+	 */
+	public Class<?> getType(int index)
+	{
+		return types[index];
+	}
+
+	/**
+	 * Checks if the classes of the arguments are all loaded by the given class loader or one of
+	 * its ancestors. A signature keeps its classes and so their class loaders alive, so only the
+	 * signatures visible from the class loader of a class may be cached along with the class.
+	 *
+	 * @param classLoader
+	 *            the class loader, null for the bootstrap one
+	 * @return true if the classes of the arguments are visible from the class loader
+	 */
+	public boolean isVisibleFrom(ClassLoader classLoader)
+	{
+		for (Class<?> type : types)
+		{
+			if (type != null && !isAncestorOrSelf(type.getClassLoader(), classLoader))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAncestorOrSelf(ClassLoader ancestor, ClassLoader classLoader)
+	{
+		if (ancestor == null)
+		{
+			return true;
+		}
+		for (ClassLoader current = classLoader; current != null; current = current.getParent())
+		{
+			if (current == ancestor)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		return obj instanceof ArgumentSignature
+			&& Arrays.equals(types, ((ArgumentSignature)obj).types);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hashCode;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder("(");
+		for (int i = 0; i < types.length; i++)
+		{
+			builder.append(i == 0 ? "" : ", ")
+				.append(types[i] == null ? "null" : types[i].getName());
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -36,6 +36,9 @@ import io.github.astrapi69.modjenesis.ObjenesisException;
 public final class ClassUtils
 {
 
+	/** Shared empty argument array, so no-arg calls don't allocate one */
+	public static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
 	private ClassUtils()
 	{
 	}
@@ -94,10 +97,9 @@ public final class ClassUtils
 	{
 		try
 		{
-			return clazz.getDeclaredConstructor(getParameterTypes(initArgs)).newInstance(initArgs);
+			return ConstructorIndex.of(clazz).get(initArgs).newInstance(initArgs);
 		}
-		catch (InstantiationException | IllegalAccessException | NoSuchMethodException
-			| InvocationTargetException e)
+		catch (InstantiationException | IllegalAccessException | InvocationTargetException e)
 		{
 			throw new ObjenesisException(e);
 		}
@@ -0,0 +1,296 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.util;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+
+/**
+ * Thread-safe index of the declared constructors of a class by the signature of the arguments they
+ * are called with, shared by all the users of the class. The constructor for a signature is
+ * searched once, following the rules of {@link Constructor#newInstance(Object...)}: arguments can
+ * be boxed primitives, widened, of a subtype of the parameter or null for a reference parameter.
+ * When several constructors apply, the most specific one is chosen and, like the compiler does,
+ * unboxing is only considered if no constructor applies without it.
+ * <p>
+ * At most {@value #MAX_RESOLVED} signatures are kept per class, the other ones being resolved on
+ * every call. The signatures holding classes that aren't visible from the class loader of the
+ * class, like the ones of a plugin calling a class of its host, are never kept so that the index
+ * doesn't keep their class loader alive.
+ *
+ * @author Asterios Raptis
+ * @param <T>
+ *            the type constructed
+ */
+public final class ConstructorIndex<T>
+{
+
+	private static final ClassValue<ConstructorIndex<?>> INDEXES = new ClassValue<>()
+	{
+		@Override
+		protected ConstructorIndex<?> computeValue(Class<?> type)
+		{
+			return new ConstructorIndex<>(type);
+		}
+	};
+
+	/** Primitive type of each wrapper class */
+	private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(Boolean.class, boolean.class,
+		Byte.class, byte.class, Character.class, char.class, Short.class, short.class,
+		Integer.class, int.class, Long.class, long.class, Float.class, float.class, Double.class,
+		double.class);
+
+	/** Maximum count of signatures whose constructor is kept per class */
+	static final int MAX_RESOLVED = 32;
+
+	private final Class<T> type;
+
+	/** Constructor resolved for each signature, at most {@link #MAX_RESOLVED} */
+	private final Map<ArgumentSignature, Constructor<T>> resolved = new ConcurrentHashMap<>();
+
+	/** Last constructor found, checked first since callers tend to repeat their signature */
+	private volatile Resolution<T> last;
+
+	private ConstructorIndex(Class<T> type)
+	{
+		this.type = type;
+	}
+
+	/**
+	 * @param <T>
+	 *            the type constructed
+	 * @param type
+	 *            the class to construct
+	 * @return the index of the constructors of the class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ConstructorIndex<T> of(Class<T> type)
+	{
+		return (ConstructorIndex<T>)INDEXES.get(type);
+	}
+
+	/**
+	 * Gets the constructor to call with the given arguments. Doesn't allocate when called with the
+	 * same argument types as the previous call.
+	 *
+	 * @param args
+	 *            the arguments of the constructor, null meaning none
+	 * @return the constructor
+	 * @throws ObjenesisException
+	 *             wrapping a {@link NoSuchMethodException} if no constructor applies or if several
+	 *             apply without one being more specific than the others
+	 */
+	public Constructor<T> get(Object... args)
+	{
+		Resolution<T> resolution = last;
+		if (resolution != null && resolution.signature.matches(args))
+		{
+			return resolution.constructor;
+		}
+		ArgumentSignature signature = ArgumentSignature.of(args);
+		Constructor<T> constructor = resolved.get(signature);
+		if (constructor != null)
+		{
+			last = new Resolution<>(signature, constructor);
+			return constructor;
+		}
+		if (!signature.isVisibleFrom(type.getClassLoader()))
+		{
+			return resolve(signature);
+		}
+		// the bound is approximate under contention, a few more signatures may be kept
+		constructor = resolved.size() < MAX_RESOLVED
+			? resolved.computeIfAbsent(signature, this::resolve)
+			: resolve(signature);
+		last = new Resolution<>(signature, constructor);
+		return constructor;
+	}
+
+	/**
+	 * @return the count of signatures whose constructor is kept
+	 */
+	int size()
+	{
+		return resolved.size();
+	}
+
+	private Constructor<T> resolve(ArgumentSignature signature)
+	{
+		// Like the compiler, unboxing is only considered if no constructor applies without it
+		List<Constructor<T>> applicable = applicable(signature, false);
+		if (applicable.isEmpty())
+		{
+			applicable = applicable(signature, true);
+		}
+		Constructor<T> mostSpecific = null;
+		for (Constructor<T> candidate : applicable)
+		{
+			if (applicable.stream().allMatch(other -> isAtLeastAsSpecific(candidate, other)))
+			{
+				mostSpecific = candidate;
+				break;
+			}
+		}
+		if (mostSpecific == null)
+		{
+			throw new ObjenesisException(new NoSuchMethodException(type.getName() + ".<init>"
+				+ signature + (applicable.isEmpty() ? "" : " is ambiguous: " + applicable)));
+		}
+		return mostSpecific;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Constructor<T>> applicable(ArgumentSignature signature, boolean unboxing)
+	{
+		List<Constructor<T>> applicable = new ArrayList<>();
+		for (Constructor<?> constructor : type.getDeclaredConstructors())
+		{
+			if (isApplicable(constructor.getParameterTypes(), signature, unboxing))
+			{
+				applicable.add((Constructor<T>)constructor);
+			}
+		}
+		return applicable;
+	}
+
+	private static boolean isApplicable(Class<?>[] parameters, ArgumentSignature signature,
+		boolean unboxing)
+	{
+		if (parameters.length != signature.size())
+		{
+			return false;
+		}
+		for (int i = 0; i < parameters.length; i++)
+		{
+			Class<?> argument = signature.getType(i);
+			boolean applicable = unboxing
+				? isAssignable(parameters[i], argument)
+				: argument == null ? !parameters[i].isPrimitive()
+					: parameters[i].isAssignableFrom(argument);
+			if (!applicable)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAtLeastAsSpecific(Constructor<?> constructor, Constructor<?> other)
+	{
+		Class<?>[] parameters = constructor.getParameterTypes();
+		Class<?>[] otherParameters = other.getParameterTypes();
+		for (int i = 0; i < parameters.length; i++)
+		{
+			if (!isAssignable(otherParameters[i], parameters[i]))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if a value of the given type can be passed to a parameter of the given type
+	 *         through {@link Constructor#newInstance(Object...)}, null meaning the null value
+	 */
+	static boolean isAssignable(Class<?> parameter, Class<?> argument)
+	{
+		if (argument == null)
+		{
+			return !parameter.isPrimitive();
+		}
+		if (parameter.isAssignableFrom(argument))
+		{
+			return true;
+		}
+		if (!parameter.isPrimitive())
+		{
+			return false;
+		}
+		Class<?> primitive = argument.isPrimitive() ? argument : PRIMITIVES.get(argument);
+		return primitive != null && isWidening(parameter, primitive);
+	}
+
+	private static boolean isWidening(Class<?> parameter, Class<?> primitive)
+	{
+		if (parameter == primitive)
+		{
+			return true;
+		}
+		if (primitive == boolean.class || parameter == boolean.class || parameter == char.class)
+		{
+			return false;
+		}
+		if (primitive == char.class)
+		{
+			return parameter == int.class || parameter == long.class || parameter == float.class
+				|| parameter == double.class;
+		}
+		return rankOf(primitive) < rankOf(parameter);
+	}
+
+	private static int rankOf(Class<?> primitive)
+	{
+		if (primitive == byte.class)
+		{
+			return 0;
+		}
+		if (primitive == short.class)
+		{
+			return 1;
+		}
+		if (primitive == int.class)
+		{
+			return 2;
+		}
+		if (primitive == long.class)
+		{
+			return 3;
+		}
+		if (primitive == float.class)
+		{
+			return 4;
+		}
+		return 5;
+	}
+
+	/** Constructor found for a signature */
+	private static final class Resolution<T>
+	{
+		final ArgumentSignature signature;
+		final Constructor<T> constructor;
+
+		Resolution(ArgumentSignature signature, Constructor<T> constructor)
+		{
+			this.signature = signature;
+			this.constructor = constructor;
+		}
+	}
+}
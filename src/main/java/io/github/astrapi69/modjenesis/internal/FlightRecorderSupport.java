@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.internal;
+
+import jdk.jfr.FlightRecorder;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
+
+/**
+ * The only access of {@link io.github.astrapi69.modjenesis.ObjenesisBase} to the flight recorder.
+ * The jdk.jfr module is optional, absent on Android and on minimal runtime images, so whether it
+ * is present is checked once and all the references to its types are kept in a nested class only
+ * loaded when it is. The events are only created once the flight recorder is initialized, since
+ * loading the first event class initializes the flight recorder infrastructure, which costs
+ * hundreds of milliseconds at startup.
+ * <p>
+ * Like the events, it lives in a package the module doesn't export, so it isn't part of the API.
+ *
+ * @author Asterios Raptis
+ */
+public final class FlightRecorderSupport
+{
+
+	/** If the jdk.jfr module is present */
+	private static final boolean AVAILABLE = isAvailable();
+
+	private FlightRecorderSupport()
+	{
+	}
+
+	/**
+	 * @return true if the events are recorded, the jdk.jfr module being present and the flight
+	 *         recorder initialized
+	 */
+	public static boolean isEnabled()
+	{
+		return AVAILABLE && Recorder.isInitialized();
+	}
+
+	/**
+	 * Asks the strategy for a new instantiator, recording it as an
+	 * {@link InstantiatorCreationEvent}. Only to be called when {@link #isEnabled() enabled}.
+	 *
+	 * @param <T>
+	 *            Type to instantiate
+	 * @param strategy
+	 *            the strategy creating the instantiator
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param initArgs
+	 *            an optional array of objects to be passed as arguments to the constructor call
+	 * @return Instantiator dedicated to the class
+	 */
+	public static <T> ObjectInstantiator<T> newInstantiatorOf(InstantiatorStrategy strategy,
+		Class<T> clazz, Object... initArgs)
+	{
+		return Recorder.newInstantiatorOf(strategy, clazz, initArgs);
+	}
+
+	/**
+	 * Creates a new instance, recording it as a {@link SlowInstantiationEvent} if it is slow. Only
+	 * to be called when {@link #isEnabled() enabled}.
+	 *
+	 * @param <T>
+	 *            Type instantiated
+	 * @param clazz
+	 *            Class to instantiate
+	 * @param instantiator
+	 *            the instantiator of the class
+	 * @param initArgs
+	 *            the arguments passed to the instantiator, none if empty
+	 * @return New instance of clazz
+	 */
+	public static <T> T newInstance(Class<T> clazz, ObjectInstantiator<T> instantiator,
+		Object[] initArgs)
+	{
+		return Recorder.newInstance(clazz, instantiator, initArgs);
+	}
+
+	private static boolean isAvailable()
+	{
+		try
+		{
+			Class.forName("jdk.jfr.FlightRecorder", false,
+				FlightRecorderSupport.class.getClassLoader());
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e)
+		{
+			return false;
+		}
+	}
+
+	/** Holder of the references to the jdk.jfr types, loaded only if the module is present */
+	private static final class Recorder
+	{
+
+		static boolean isInitialized()
+		{
+			return FlightRecorder.isInitialized();
+		}
+
+		static <T> ObjectInstantiator<T> newInstantiatorOf(InstantiatorStrategy strategy,
+			Class<T> clazz, Object... initArgs)
+		{
+			InstantiatorCreationEvent event = new InstantiatorCreationEvent();
+			event.begin();
+			ObjectInstantiator<T> instantiator = strategy.newInstantiatorOf(clazz, initArgs);
+			event.commit(clazz, instantiator.getClass(), strategy.getClass());
+			return instantiator;
+		}
+
+		static <T> T newInstance(Class<T> clazz, ObjectInstantiator<T> instantiator,
+			Object[] initArgs)
+		{
+			SlowInstantiationEvent event = new SlowInstantiationEvent();
+			event.begin();
+			T instance = initArgs.length == 0
+				? instantiator.newInstance()
+				: instantiator.newInstance(initArgs);
+			event.commit(clazz, instantiator.getClass());
+			return instance;
+		}
+	}
+}
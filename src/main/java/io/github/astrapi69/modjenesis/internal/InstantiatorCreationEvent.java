@@ -0,0 +1,82 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event of the creation of an instantiator by the strategy of an
+ * {@link io.github.astrapi69.modjenesis.ObjenesisBase}. Its duration covers the whole work of the
+ * strategy, like the lookups of the ReflectionFactory or of the ObjectStreamClass. Like every
+ * flight recorder event, it costs nothing while no recording is running.
+ *
+ * @author Asterios Raptis
+ */
+@Name(InstantiatorCreationEvent.NAME)
+@Label("Instantiator Creation")
+@Category("Modjenesis")
+@Description("Creation of an instantiator by an instantiator strategy")
+public final class InstantiatorCreationEvent extends Event
+{
+
+	/** Name of this event type */
+	public static final String NAME = "io.github.astrapi69.modjenesis.InstantiatorCreation";
+
+	@Label("Instantiated Class")
+	private Class<?> instantiatedClass;
+
+	@Label("Instantiator Type")
+	private Class<?> instantiatorType;
+
+	@Label("Strategy")
+	private Class<?> strategy;
+
+	/**
+	 * Ends this event and commits it with the given values if it passes the settings of the
+	 * running recordings
+	 *
+	 * @param instantiatedClass
+	 *            the class the instantiator is created for
+	 * @param instantiatorType
+	 *            the type of the created instantiator
+	 * @param strategy
+	 *            the type of the strategy that created it
+	 */
+	public void commit(Class<?> instantiatedClass, Class<?> instantiatorType, Class<?> strategy)
+	{
+		end();
+		if (shouldCommit())
+		{
+			this.instantiatedClass = instantiatedClass;
+			this.instantiatorType = instantiatorType;
+			this.strategy = strategy;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of an instantiation through
+ * {@link io.github.astrapi69.modjenesis.ObjenesisBase#newInstance(Class, Object...)} lasting
+ * longer than the threshold of the recording, 1 ms by default. Like every flight recorder event,
+ * it costs nothing while no recording is running.
+ *
+ * @author Asterios Raptis
+ */
+@Name(SlowInstantiationEvent.NAME)
+@Label("Slow Instantiation")
+@Category("Modjenesis")
+@Description("Instantiation lasting longer than the threshold")
+@Threshold("1 ms")
+public final class SlowInstantiationEvent extends Event
+{
+
+	/** Name of this event type */
+	public static final String NAME = "io.github.astrapi69.modjenesis.SlowInstantiation";
+
+	@Label("Instantiated Class")
+	private Class<?> instantiatedClass;
+
+	@Label("Instantiator Type")
+	private Class<?> instantiatorType;
+
+	/**
+	 * Ends this event and commits it with the given values if it lasted longer than the threshold
+	 *
+	 * @param instantiatedClass
+	 *            the class instantiated
+	 * @param instantiatorType
+	 *            the type of the instantiator used
+	 */
+	public void commit(Class<?> instantiatedClass, Class<?> instantiatorType)
+	{
+		end();
+		if (shouldCommit())
+		{
+			this.instantiatedClass = instantiatedClass;
+			this.instantiatorType = instantiatorType;
+			commit();
+		}
+	}
+}
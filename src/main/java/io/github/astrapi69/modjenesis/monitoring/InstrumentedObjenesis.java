@@ -0,0 +1,405 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisBase;
+import io.github.astrapi69.modjenesis.ObjenesisException;
+import io.github.astrapi69.modjenesis.UnsupportedReason;
+import io.github.astrapi69.modjenesis.cache.CacheStatistics;
+import io.github.astrapi69.modjenesis.cache.InstantiatorCache;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Opt-in instrumentation of an {@link ObjenesisBase}, publishing the statistics of its cache and
+ * the count of instances created per class through the platform MBean server. To get the cache
+ * hits, misses and load times, the instrumented Objenesis must use a cache recording statistics,
+ * for example
+ *
+ * <pre>
+ * new InstrumentedObjenesis(new ObjenesisStd(new ClassValueInstantiatorCache(true)))
+ * </pre>
+ *
+ * When counting the instances, the instantiators returned wrap the ones of the instrumented
+ * Objenesis and increment a {@link LongAdder} of their class per instance. The wrapper of the last
+ * instantiator of each class is kept, so getting the instantiator of a class again doesn't
+ * allocate. That atomic increment
+ * costs about as much as allocating a small object, so counting can be turned off at construction
+ * to only keep the cache statistics, the instantiators being then returned as they are. The
+ * instances are counted per class name, so classes with the same name from different class
+ * loaders share their count.
+ * <p>
+ * This module only requires java.management statically, so that the core of Objenesis runs on
+ * platforms without it. An application using this class on the module path must read it, by
+ * requiring java.management itself or with {@code --add-modules java.management}.
+ *
+ * @author Asterios Raptis
+ */
+public class InstrumentedObjenesis implements Objenesis, ObjenesisMXBean
+{
+
+	/** Domain of the object names this class registers under */
+	public static final String DOMAIN = "io.github.astrapi69.modjenesis";
+
+	private final ObjenesisBase objenesis;
+
+	private final boolean countInstantiations;
+
+	private final ConcurrentMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+	private final ClassValue<Counter> counters = new ClassValue<Counter>()
+	{
+		@Override
+		protected Counter computeValue(Class<?> type)
+		{
+			return new Counter(counts.computeIfAbsent(type.getName(), name -> new LongAdder()));
+		}
+	};
+
+	private ObjectName objectName;
+
+	/**
+	 * Instruments the given Objenesis, counting the instances created per class
+	 *
+	 * @param objenesis
+	 *            the Objenesis to instrument
+	 */
+	public InstrumentedObjenesis(ObjenesisBase objenesis)
+	{
+		this(objenesis, true);
+	}
+
+	/**
+	 * Instruments the given Objenesis, counting the instances created per class or not
+	 *
+	 * @param objenesis
+	 *            the Objenesis to instrument
+	 * @param countInstantiations
+	 *            If the instances created should be counted per class
+	 */
+	public InstrumentedObjenesis(ObjenesisBase objenesis, boolean countInstantiations)
+	{
+		if (objenesis == null)
+		{
+			throw new IllegalArgumentException("The objenesis can't be null");
+		}
+		this.objenesis = objenesis;
+		this.countInstantiations = countInstantiations;
+	}
+
+	/**
+	 * Registers this instance in the platform MBean server under the object name
+	 * {@code io.github.astrapi69.modjenesis:type=Objenesis,name=<name>}
+	 *
+	 * @param name
+	 *            the name telling this instance apart from the other registered ones
+	 * @return the object name this instance is registered under, as a String so that the API of
+	 *         this module doesn't depend on java.management
+	 */
+	public synchronized String register(String name)
+	{
+		if (objectName != null)
+		{
+			throw new IllegalStateException("Already registered as " + objectName);
+		}
+		try
+		{
+			ObjectName newObjectName = new ObjectName(
+				DOMAIN + ":type=Objenesis,name=" + ObjectName.quote(name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, newObjectName);
+			objectName = newObjectName;
+			return newObjectName.getCanonicalName();
+		}
+		catch (JMException e)
+		{
+			throw new ObjenesisException(e);
+		}
+	}
+
+	/**
+	 * Unregisters this instance from the platform MBean server. Does nothing if it isn't
+	 * registered.
+	 */
+	public synchronized void unregister()
+	{
+		if (objectName == null)
+		{
+			return;
+		}
+		try
+		{
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(objectName))
+			{
+				server.unregisterMBean(objectName);
+			}
+			objectName = null;
+		}
+		catch (JMException e)
+		{
+			throw new ObjenesisException(e);
+		}
+	}
+
+	@Override
+	public <T> T newInstance(Class<T> clazz, Object... initArgs)
+	{
+		T instance = objenesis.newInstance(clazz, initArgs);
+		if (countInstantiations)
+		{
+			counters.get(clazz).count.increment();
+		}
+		return instance;
+	}
+
+	@Override
+	public <T> T newInstance(Class<T> clazz)
+	{
+		T instance = objenesis.newInstance(clazz);
+		if (countInstantiations)
+		{
+			counters.get(clazz).count.increment();
+		}
+		return instance;
+	}
+
+	@Override
+	public <T> ObjectInstantiator<T> getInstantiatorOf(Class<T> clazz, Object... initArgs)
+	{
+		ObjectInstantiator<T> instantiator = objenesis.getInstantiatorOf(clazz, initArgs);
+		return countInstantiations ? counters.get(clazz).wrap(instantiator) : instantiator;
+	}
+
+	@Override
+	public <T> ObjectInstantiator<T> getInstantiatorOf(Class<T> clazz)
+	{
+		ObjectInstantiator<T> instantiator = objenesis.getInstantiatorOf(clazz);
+		return countInstantiations ? counters.get(clazz).wrap(instantiator) : instantiator;
+	}
+
+	@Override
+	public <T> ObjectInstantiator<T> getInstantiatorOf(String className, ClassLoader classLoader)
+	{
+		Class<T> type = objenesis.resolveClass(className, classLoader);
+		if (type == null)
+		{
+			throw new ObjenesisException(new ClassNotFoundException(className));
+		}
+		return getInstantiatorOf(type);
+	}
+
+	@Override
+	public <T> Optional<ObjectInstantiator<T>> tryGetInstantiatorOf(String className,
+		ClassLoader classLoader)
+	{
+		Class<T> type = objenesis.resolveClass(className, classLoader);
+		return type == null ? Optional.empty() : tryGetInstantiatorOf(type);
+	}
+
+	@Override
+	public <T> Optional<ObjectInstantiator<T>> tryGetInstantiatorOf(Class<T> clazz)
+	{
+		Optional<ObjectInstantiator<T>> instantiator = objenesis.tryGetInstantiatorOf(clazz);
+		return countInstantiations
+			? instantiator.map(found -> counters.get(clazz).wrap(found))
+			: instantiator;
+	}
+
+	@Override
+	public UnsupportedReason getUnsupportedReason(Class<?> clazz)
+	{
+		return objenesis.getUnsupportedReason(clazz);
+	}
+
+	@Override
+	public int getCacheSize()
+	{
+		InstantiatorCache cache = objenesis.getCache();
+		return cache == null ? -1 : cache.size();
+	}
+
+	@Override
+	public long getHitCount()
+	{
+		return getCacheStatistics().getHitCount();
+	}
+
+	@Override
+	public long getMissCount()
+	{
+		return getCacheStatistics().getMissCount();
+	}
+
+	@Override
+	public double getHitRate()
+	{
+		return getCacheStatistics().getHitRate();
+	}
+
+	@Override
+	public long getLoadCount()
+	{
+		return getCacheStatistics().getLoadCount();
+	}
+
+	@Override
+	public long getTotalLoadTime()
+	{
+		return getCacheStatistics().getTotalLoadTime();
+	}
+
+	@Override
+	public double getAverageLoadPenalty()
+	{
+		return getCacheStatistics().getAverageLoadPenalty();
+	}
+
+	@Override
+	public long getEvictionCount()
+	{
+		return getCacheStatistics().getEvictionCount();
+	}
+
+	@Override
+	public long getInstantiationCount()
+	{
+		long total = 0;
+		for (LongAdder count : counts.values())
+		{
+			total += count.sum();
+		}
+		return total;
+	}
+
+	@Override
+	public Map<String, Long> getInstantiationCounts()
+	{
+		Map<String, Long> snapshot = new TreeMap<>();
+		counts.forEach((name, count) -> snapshot.put(name, count.sum()));
+		return snapshot;
+	}
+
+	@Override
+	public void resetInstantiationCounts()
+	{
+		counts.values().forEach(LongAdder::reset);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getName() + " of " + objenesis;
+	}
+
+	private CacheStatistics getCacheStatistics()
+	{
+		InstantiatorCache cache = objenesis.getCache();
+		return cache == null ? new CacheStatistics(0, 0, 0, 0, 0) : cache.getStatistics();
+	}
+
+	/**
+	 * The count of the instances of a class, shared by the classes of the same name, and the
+	 * wrapper of the last instantiator of the class
+	 */
+	private static final class Counter
+	{
+		final LongAdder count;
+
+		/** Null until an instantiator of the class is wrapped */
+		volatile CountingInstantiator<?> last;
+
+		Counter(LongAdder count)
+		{
+			this.count = count;
+		}
+
+		/**
+		 * Wraps the given instantiator, reusing the last wrapper if it wraps the same one. The
+		 * instrumented Objenesis returns the same instantiator of a class as long as it is cached.
+		 */
+		@SuppressWarnings("unchecked")
+		<T> ObjectInstantiator<T> wrap(ObjectInstantiator<T> instantiator)
+		{
+			CountingInstantiator<?> wrapper = last;
+			if (wrapper == null || wrapper.instantiator != instantiator)
+			{
+				wrapper = new CountingInstantiator<>(instantiator, count);
+				last = wrapper;
+			}
+			return (ObjectInstantiator<T>)wrapper;
+		}
+	}
+
+	/**
+	 * Instantiator counting the instances created by the instantiator it wraps
+	 */
+	private static final class CountingInstantiator<T> implements ObjectInstantiator<T>
+	{
+		private final ObjectInstantiator<T> instantiator;
+		private final LongAdder count;
+
+		CountingInstantiator(ObjectInstantiator<T> instantiator, LongAdder count)
+		{
+			this.instantiator = instantiator;
+			this.count = count;
+		}
+
+		@Override
+		public T newInstance()
+		{
+			T instance = instantiator.newInstance();
+			count.increment();
+			return instance;
+		}
+
+		@Override
+		public T newInstance(Object... initArgs)
+		{
+			T instance = instantiator.newInstance(initArgs);
+			count.increment();
+			return instance;
+		}
+
+		@Override
+		public T[] newInstances(T[] instances)
+		{
+			instantiator.newInstances(instances);
+			count.add(instances.length);
+			return instances;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with log-linear buckets. Every power of two is
+ * split into {@value #SUB_BUCKET_COUNT} linear buckets, so a recorded value is known within about
+ * 6% whatever its magnitude, with a fixed footprint of a few kilobytes. Any number of threads can
+ * record at the same time, each recording being one atomic increment. Histograms can be merged,
+ * for example to get the latencies of all the classes together.
+ *
+ * @author Asterios Raptis
+ */
+public final class LatencyHistogram
+{
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	/** Number of linear buckets per power of two */
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	/** Values below this one have a bucket of their own */
+	private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT;
+
+	/** Enough buckets for any positive long */
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Creates an empty histogram
+	 */
+	public LatencyHistogram()
+	{
+	}
+
+	/**
+	 * Records a latency
+	 *
+	 * @param nanos
+	 *            the latency in nanoseconds, negative values are recorded as 0
+	 */
+	public void record(long nanos)
+	{
+		long value = Math.max(nanos, 0);
+		counts.getAndIncrement(indexOf(value));
+		max.accumulate(value);
+	}
+
+	/**
+	 * Adds all the latencies recorded by the given histogram to this one
+	 *
+	 * @param other
+	 *            the histogram to merge into this one
+	 */
+	public void merge(LatencyHistogram other)
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			long count = other.counts.get(i);
+			if (count != 0)
+			{
+				counts.getAndAdd(i, count);
+			}
+		}
+		max.accumulate(other.max.get());
+	}
+
+	/**
+	 * Removes all the recorded latencies
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			counts.set(i, 0);
+		}
+		max.reset();
+	}
+
+	/**
+	 * Takes a snapshot of the recorded latencies. Latencies recorded while taking it may or may not
+	 * be part of it.
+	 *
+	 * @return the snapshot
+	 */
+	public LatencySnapshot snapshot()
+	{
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		return new LatencySnapshot(total, valueAt(snapshot, total, 0.5),
+			valueAt(snapshot, total, 0.99), valueAt(snapshot, total, 0.999), max.get());
+	}
+
+	private static long valueAt(long[] snapshot, long total, double quantile)
+	{
+		if (total == 0)
+		{
+			return 0;
+		}
+		long rank = Math.max(1, (long)Math.ceil(quantile * total));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++)
+		{
+			seen += snapshot[i];
+			if (seen >= rank)
+			{
+				return highestValueOf(i);
+			}
+		}
+		return highestValueOf(snapshot.length - 1);
+	}
+
+	static int indexOf(long value)
+	{
+		if (value < LINEAR_LIMIT)
+		{
+			return (int)value;
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int)(value >>> shift) & (SUB_BUCKET_COUNT - 1);
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * @return the highest value recorded in the bucket of the given index
+	 */
+	static long highestValueOf(int index)
+	{
+		int group = index / SUB_BUCKET_COUNT;
+		int subBucket = index % SUB_BUCKET_COUNT;
+		if (group == 0)
+		{
+			return subBucket;
+		}
+		int shift = group - 1;
+		long lowest = (long)(SUB_BUCKET_COUNT + subBucket) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
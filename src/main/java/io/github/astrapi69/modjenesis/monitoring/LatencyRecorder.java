@@ -0,0 +1,147 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Keeps one {@link LatencyHistogram} per instantiated class and decorates instantiators to sample
+ * their latency into it. Useful to find the classes paying for an expensive static initializer or
+ * an unusually slow instantiator:
+ *
+ * <pre>
+ * LatencyRecorder recorder = new LatencyRecorder(0.01);
+ * ObjectInstantiator&lt;MyThingy&gt; instantiator = recorder
+ * 	.decorate(MyThingy.class, objenesis.getInstantiatorOf(MyThingy.class));
+ * ...
+ * recorder.getSnapshots().forEach((name, snapshot) -&gt; log.info(name + " " + snapshot));
+ * </pre>
+ *
+ * The histograms are kept per class name, so classes with the same name from different class
+ * loaders share their histogram.
+ *
+ * @author Asterios Raptis
+ */
+public class LatencyRecorder
+{
+
+	private final double samplingRate;
+
+	private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+	private final ClassValue<LatencyHistogram> histogramOfClass = new ClassValue<LatencyHistogram>()
+	{
+		@Override
+		protected LatencyHistogram computeValue(Class<?> type)
+		{
+			return histograms.computeIfAbsent(type.getName(), name -> new LatencyHistogram());
+		}
+	};
+
+	/**
+	 * Creates a recorder sampling the given fraction of the calls
+	 *
+	 * @param samplingRate
+	 *            the fraction of the calls to record, in (0, 1]
+	 * @throws IllegalArgumentException
+	 *             if the sampling rate is out of range
+	 */
+	public LatencyRecorder(double samplingRate)
+	{
+		if (!(samplingRate > 0 && samplingRate <= 1))
+		{
+			throw new IllegalArgumentException("samplingRate must be in (0, 1]: " + samplingRate);
+		}
+		this.samplingRate = samplingRate;
+	}
+
+	/**
+	 * Decorates an instantiator to sample its latency into the histogram of its class
+	 *
+	 * @param <T>
+	 *            the type instantiated
+	 * @param type
+	 *            the class instantiated
+	 * @param instantiator
+	 *            the instantiator of this class
+	 * @return the decorated instantiator
+	 */
+	public <T> SamplingLatencyInstantiator<T> decorate(Class<T> type,
+		ObjectInstantiator<T> instantiator)
+	{
+		return new SamplingLatencyInstantiator<>(instantiator, getHistogram(type), samplingRate);
+	}
+
+	/**
+	 * @param type
+	 *            a class
+	 * @return the histogram of this class, created if needed
+	 */
+	public LatencyHistogram getHistogram(Class<?> type)
+	{
+		return histogramOfClass.get(type);
+	}
+
+	/**
+	 * @return a snapshot of the histogram of each class, sorted by class name
+	 */
+	public Map<String, LatencySnapshot> getSnapshots()
+	{
+		Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+		histograms.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+		return snapshots;
+	}
+
+	/**
+	 * @return a snapshot of the latencies of all the classes together
+	 */
+	public LatencySnapshot getMergedSnapshot()
+	{
+		LatencyHistogram merged = new LatencyHistogram();
+		histograms.values().forEach(merged::merge);
+		return merged.snapshot();
+	}
+
+	/**
+	 * Removes the latencies recorded for all the classes
+	 */
+	public void reset()
+	{
+		histograms.values().forEach(LatencyHistogram::reset);
+	}
+
+	/**
+	 * @return the fraction of the calls recorded
+	 */
+	public double getSamplingRate()
+	{
+		return samplingRate;
+	}
+}
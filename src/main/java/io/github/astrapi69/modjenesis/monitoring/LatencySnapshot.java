@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+/**
+ * Immutable snapshot of the percentiles of a {@link LatencyHistogram}. The percentiles are the
+ * highest value of the bucket they fall in, so they are never under the real value.
+ *
+ * @author Asterios Raptis
+ */
+public final class LatencySnapshot
+{
+
+	private final long count;
+	private final long p50;
+	private final long p99;
+	private final long p999;
+	private final long max;
+
+	/**
+	 * Creates a snapshot
+	 *
+	 * @param count
+	 *            the number of recorded latencies
+	 * @param p50
+	 *            the median latency in nanoseconds
+	 * @param p99
+	 *            the 99th percentile of the latencies in nanoseconds
+	 * @param p999
+	 *            the 99.9th percentile of the latencies in nanoseconds
+	 * @param max
+	 *            the highest latency in nanoseconds
+	 */
+	public LatencySnapshot(long count, long p50, long p99, long p999, long max)
+	{
+		this.count = count;
+		this.p50 = p50;
+		this.p99 = p99;
+		this.p999 = p999;
+		this.max = max;
+	}
+
+	/**
+	 * @return the number of recorded latencies
+	 */
+	public long getCount()
+	{
+		return count;
+	}
+
+	/**
+	 * @return the median latency in nanoseconds
+	 */
+	public long getP50()
+	{
+		return p50;
+	}
+
+	/**
+	 * @return the 99th percentile of the latencies in nanoseconds
+	 */
+	public long getP99()
+	{
+		return p99;
+	}
+
+	/**
+	 * @return the 99.9th percentile of the latencies in nanoseconds
+	 */
+	public long getP999()
+	{
+		return p999;
+	}
+
+	/**
+	 * @return the highest latency in nanoseconds
+	 */
+	public long getMax()
+	{
+		return max;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "LatencySnapshot{count=" + count + ", p50=" + p50 + "ns, p99=" + p99 + "ns, p99.9="
+			+ p999 + "ns, max=" + max + "ns}";
+	}
+}
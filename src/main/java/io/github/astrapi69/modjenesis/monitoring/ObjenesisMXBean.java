@@ -0,0 +1,94 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import java.util.Map;
+
+/**
+ * Management interface publishing the counters of an {@link InstrumentedObjenesis}. The cache
+ * counters come from the cache of the instrumented Objenesis and are all 0 if that cache doesn't
+ * record statistics.
+ *
+ * @author Asterios Raptis
+ */
+public interface ObjenesisMXBean
+{
+
+	/**
+	 * @return the number of cached instantiators or -1 if the instantiators are not cached
+	 */
+	int getCacheSize();
+
+	/**
+	 * @return the number of lookups that found a cached instantiator
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of lookups that had to create an instantiator
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the ratio of lookups that found a cached instantiator
+	 */
+	double getHitRate();
+
+	/**
+	 * @return the number of instantiators created by the strategy
+	 */
+	long getLoadCount();
+
+	/**
+	 * @return the total time in nanoseconds spent by the strategy creating instantiators
+	 */
+	long getTotalLoadTime();
+
+	/**
+	 * @return the average time in nanoseconds spent by the strategy creating an instantiator
+	 */
+	double getAverageLoadPenalty();
+
+	/**
+	 * @return the number of instantiators evicted from the cache
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of instances created for all the classes, always 0 if they are not
+	 *         counted
+	 */
+	long getInstantiationCount();
+
+	/**
+	 * @return the number of instances created per class name
+	 */
+	Map<String, Long> getInstantiationCounts();
+
+	/**
+	 * Resets the number of instances created for all the classes to 0
+	 */
+	void resetInstantiationCounts();
+}
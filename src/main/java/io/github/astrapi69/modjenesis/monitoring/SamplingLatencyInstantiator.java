@@ -0,0 +1,132 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Decorates any {@link ObjectInstantiator} to record the latency of a sample of its
+ * {@link #newInstance()} calls into a {@link LatencyHistogram}. Calls are sampled at random with
+ * the given rate, except the first one which is always recorded since it pays the static
+ * initialization of the class. Calls not sampled only cost a random number draw, while sampled
+ * ones pay two {@link System#nanoTime()} calls and an atomic increment.
+ *
+ * @author Asterios Raptis
+ * @see LatencyRecorder
+ */
+public class SamplingLatencyInstantiator<T> implements ObjectInstantiator<T>
+{
+
+	private static final int SAMPLING_BITS = 24;
+	private static final int SAMPLING_RANGE = 1 << SAMPLING_BITS;
+
+	private final ObjectInstantiator<T> instantiator;
+	private final LatencyHistogram histogram;
+
+	/** Sampling rate scaled to the 24 bits of randomness drawn per call */
+	private final int samplingThreshold;
+
+	/** Racy on purpose, the worst case being a few more first calls recorded */
+	private boolean firstCallRecorded;
+
+	/**
+	 * Decorates the given instantiator
+	 *
+	 * @param instantiator
+	 *            the instantiator to decorate
+	 * @param histogram
+	 *            the histogram to record the sampled latencies in
+	 * @param samplingRate
+	 *            the fraction of the calls to record, in (0, 1]
+	 * @throws IllegalArgumentException
+	 *             if the sampling rate is out of range
+	 */
+	public SamplingLatencyInstantiator(ObjectInstantiator<T> instantiator,
+		LatencyHistogram histogram, double samplingRate)
+	{
+		if (!(samplingRate > 0 && samplingRate <= 1))
+		{
+			throw new IllegalArgumentException("samplingRate must be in (0, 1]: " + samplingRate);
+		}
+		this.instantiator = instantiator;
+		this.histogram = histogram;
+		this.samplingThreshold = (int)Math.ceil(samplingRate * SAMPLING_RANGE);
+	}
+
+	@Override
+	public T newInstance()
+	{
+		if (!sample())
+		{
+			return instantiator.newInstance();
+		}
+		long start = System.nanoTime();
+		T instance = instantiator.newInstance();
+		histogram.record(System.nanoTime() - start);
+		return instance;
+	}
+
+	@Override
+	public T newInstance(Object... args)
+	{
+		if (!sample())
+		{
+			return instantiator.newInstance(args);
+		}
+		long start = System.nanoTime();
+		T instance = instantiator.newInstance(args);
+		histogram.record(System.nanoTime() - start);
+		return instance;
+	}
+
+	/**
+	 * @return the histogram the sampled latencies are recorded in
+	 */
+	public LatencyHistogram getHistogram()
+	{
+		return histogram;
+	}
+
+	/**
+	 * @return the decorated instantiator
+	 */
+	public ObjectInstantiator<T> getInstantiator()
+	{
+		return instantiator;
+	}
+
+	private boolean sample()
+	{
+		if (!firstCallRecorded)
+		{
+			firstCallRecorded = true;
+			return true;
+		}
+		int random = ThreadLocalRandom.current().nextInt() >>> (Integer.SIZE - SAMPLING_BITS);
+		return random < samplingThreshold;
+	}
+}
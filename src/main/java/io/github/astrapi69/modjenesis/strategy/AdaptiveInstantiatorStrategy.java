@@ -0,0 +1,248 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.strategy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+import io.github.astrapi69.modjenesis.strategy.PlatformDescription.Capability;
+
+/**
+ * Picks the fastest standard instantiator on the current JVM instead of relying on a fixed choice.
+ * The first time a class of a given shape is asked for, the candidates available on this platform,
+ * {@link SunReflectionFactoryInstantiator} and {@link UnsafeFactoryInstantiator}, are timed creating instances of it in a short trial. The
+ * fastest one is then used for all the classes of the same shape. The shape of a class is the
+ * magnitude of its count of instance fields, superclasses included, since that is what the
+ * allocation cost depends on.
+ * <p>
+ * The trial creates a few thousand instances of the class, without calling any constructor, and
+ * runs while the code is still warming up. It is meant to catch the large differences between
+ * JVMs and class shapes, not the last percent. When no candidate is available, it behaves like
+ * {@link StdInstantiatorStrategy}.
+ *
+ * @author Asterios Raptis
+ */
+public class AdaptiveInstantiatorStrategy extends BaseInstantiatorStrategy
+{
+
+	/** The default count of instances created by a candidate in one round of the trial */
+	public static final int DEFAULT_TRIAL_ITERATIONS = 2_000;
+
+	/** The count of timed rounds per candidate, the best round counts */
+	private static final int TRIAL_ROUNDS = 5;
+
+	private final int trialIterations;
+
+	private final List<Candidate> candidates;
+
+	private final ConcurrentMap<Integer, Candidate> winners = new ConcurrentHashMap<>();
+
+	private final InstantiatorStrategy fallback = new StdInstantiatorStrategy();
+
+	/** Only there to keep the instances created by the trials from being optimized away */
+	private volatile Object sink;
+
+	/**
+	 * Strategy timing every candidate creating {@link #DEFAULT_TRIAL_ITERATIONS} instances per
+	 * round
+	 */
+	public AdaptiveInstantiatorStrategy()
+	{
+		this(DEFAULT_TRIAL_ITERATIONS);
+	}
+
+	/**
+	 * Strategy timing every candidate creating the given count of instances per round
+	 *
+	 * @param trialIterations
+	 *            the count of instances created by a candidate in one round of the trial
+	 */
+	public AdaptiveInstantiatorStrategy(int trialIterations)
+	{
+		if (trialIterations <= 0)
+		{
+			throw new IllegalArgumentException(
+				"Trial iterations must be positive: " + trialIterations);
+		}
+		this.trialIterations = trialIterations;
+		this.candidates = availableCandidates();
+	}
+
+	/**
+	 * Return the instantiator of the candidate winning the trial for the shape of the class,
+	 * running the trial if it is the first class of its shape
+	 *
+	 * @param type
+	 *            Class to instantiate
+	 * @param initArgs
+	 *            an optional array of objects to be passed as arguments to the constructor call
+	 * @return The ObjectInstantiator for the class
+	 */
+	public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+	{
+		if (candidates.isEmpty())
+		{
+			return fallback.newInstantiatorOf(type, initArgs);
+		}
+		Integer shape = shapeOf(type);
+		Candidate winner = winners.get(shape);
+		if (winner == null)
+		{
+			// concurrent trials of the same shape are possible but harmless, the first one wins
+			winner = runTrial(type);
+			Candidate existing = winners.putIfAbsent(shape, winner);
+			if (existing != null)
+			{
+				winner = existing;
+			}
+		}
+		return winner.factory.newInstantiatorOf(type);
+	}
+
+	/**
+	 * Gives the instantiator type that won the trial for the shape of the given class
+	 *
+	 * @param type
+	 *            the class to look up
+	 * @return the winning instantiator type or null if no class of this shape was instantiated yet
+	 */
+	public Class<?> getWinnerOf(Class<?> type)
+	{
+		Candidate winner = winners.get(shapeOf(type));
+		return winner == null ? null : winner.instantiatorType;
+	}
+
+	private <T> Candidate runTrial(Class<T> type)
+	{
+		List<Candidate> viable = new ArrayList<>(candidates.size());
+		List<ObjectInstantiator<T>> instantiators = new ArrayList<>(candidates.size());
+		for (Candidate candidate : candidates)
+		{
+			try
+			{
+				ObjectInstantiator<T> instantiator = candidate.factory.newInstantiatorOf(type);
+				sink = instantiator.newInstance();
+				viable.add(candidate);
+				instantiators.add(instantiator);
+			}
+			catch (RuntimeException | LinkageError e)
+			{
+				// not viable for this class, leave it out of the trial
+			}
+		}
+		if (viable.isEmpty())
+		{
+			return candidates.get(0);
+		}
+		long[] bestTimes = new long[viable.size()];
+		Arrays.fill(bestTimes, Long.MAX_VALUE);
+		// the candidates take turns in every round, so none is favored by running last
+		for (int round = 0; round < TRIAL_ROUNDS; round++)
+		{
+			for (int i = 0; i < viable.size(); i++)
+			{
+				bestTimes[i] = Math.min(bestTimes[i], time(instantiators.get(i)));
+			}
+		}
+		int fastest = 0;
+		for (int i = 1; i < bestTimes.length; i++)
+		{
+			if (bestTimes[i] < bestTimes[fastest])
+			{
+				fastest = i;
+			}
+		}
+		return viable.get(fastest);
+	}
+
+	private long time(ObjectInstantiator<?> instantiator)
+	{
+		Object last = null;
+		long start = System.nanoTime();
+		for (int i = 0; i < trialIterations; i++)
+		{
+			last = instantiator.newInstance();
+		}
+		long time = System.nanoTime() - start;
+		sink = last;
+		return time;
+	}
+
+	private static Integer shapeOf(Class<?> type)
+	{
+		int fieldCount = 0;
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+		{
+			for (Field field : c.getDeclaredFields())
+			{
+				if (!Modifier.isStatic(field.getModifiers()))
+				{
+					fieldCount++;
+				}
+			}
+		}
+		// 0, 1, 2-3, 4-7, 8-15, ...
+		return Integer.SIZE - Integer.numberOfLeadingZeros(fieldCount);
+	}
+
+	private static List<Candidate> availableCandidates()
+	{
+		List<Candidate> candidates = new ArrayList<>();
+		if (PlatformDescription.hasCapability(Capability.REFLECTION_FACTORY))
+		{
+			candidates.add(new Candidate(SunReflectionFactoryInstantiator.class,
+				SunReflectionFactoryInstantiator::new));
+		}
+		if (PlatformDescription.hasCapability(Capability.UNSAFE))
+		{
+			candidates.add(
+				new Candidate(UnsafeFactoryInstantiator.class, UnsafeFactoryInstantiator::new));
+		}
+		return candidates;
+	}
+
+	/**
+	 * An instantiator type taking part in the trials
+	 */
+	private static final class Candidate
+	{
+		final Class<?> instantiatorType;
+		final InstantiatorFactory factory;
+
+		Candidate(Class<?> instantiatorType, InstantiatorFactory factory)
+		{
+			this.instantiatorType = instantiatorType;
+			this.factory = factory;
+		}
+	}
+}
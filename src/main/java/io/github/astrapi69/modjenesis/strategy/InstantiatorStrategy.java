@@ -24,6 +24,7 @@
  */
 package io.github.astrapi69.modjenesis.strategy;
 
+import io.github.astrapi69.modjenesis.UnsupportedReason;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
 
 /**
@@ -44,4 +45,18 @@ public interface InstantiatorStrategy
 	 * @return Dedicated instantiator
 	 */
 	<T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs);
+
+	/**
+	 * Checks, without creating an instantiator nor throwing any exception, if the given class is
+	 * known not to be supported by this strategy. The default implementation only rejects the
+	 * kinds of classes no instantiator supports.
+	 *
+	 * @param type
+	 *            Class to check
+	 * @return the reason why the class isn't supported or null if an instantiator may be created
+	 */
+	default UnsupportedReason probe(Class<?> type)
+	{
+		return UnsupportedReason.ofType(type);
+	}
 }
@@ -24,7 +24,11 @@
  */
 package io.github.astrapi69.modjenesis.strategy;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 import io.github.astrapi69.modjenesis.ObjenesisException;
 
@@ -36,6 +40,18 @@ import io.github.astrapi69.modjenesis.ObjenesisException;
 public final class PlatformDescription
 {
 
+	/**
+	 * Optional JVM internals some instantiators rely on
+	 */
+	public enum Capability
+	{
+		/** {@code sun.misc.Unsafe} and its instance are accessible */
+		UNSAFE,
+
+		/** {@code sun.reflect.ReflectionFactory.newConstructorForSerialization} is available */
+		REFLECTION_FACTORY
+	}
+
 	/** JVM_NAME prefix for GCJ */
 	public static final String GNU = "GNU libgcj";
 
@@ -93,6 +109,9 @@ public final class PlatformDescription
 	@Deprecated
 	public static final String GAE_VERSION = getGaeRuntimeVersion();
 
+	/** Capabilities of this JVM, probed only once */
+	public static final Set<Capability> CAPABILITIES = getCapabilities();
+
 	/**
 	 * Describes the platform. Outputs Java version and vendor.
 	 *
@@ -152,6 +171,62 @@ public final class PlatformDescription
 		return bootClasspath != null && bootClasspath.toLowerCase().contains("core-oj.jar");
 	}
 
+	/**
+	 * Check if this JVM has the given capability. The JVM is probed only once for all the
+	 * capabilities, when this class is initialized.
+	 *
+	 * @param capability
+	 *            the capability we are looking for
+	 * @return if this JVM has the capability
+	 */
+	public static boolean hasCapability(Capability capability)
+	{
+		return CAPABILITIES.contains(capability);
+	}
+
+	private static Set<Capability> getCapabilities()
+	{
+		Set<Capability> capabilities = EnumSet.noneOf(Capability.class);
+		if (isUnsafeAvailable())
+		{
+			capabilities.add(Capability.UNSAFE);
+		}
+		if (isReflectionFactoryAvailable())
+		{
+			capabilities.add(Capability.REFLECTION_FACTORY);
+		}
+		return Collections.unmodifiableSet(capabilities);
+	}
+
+	private static boolean isUnsafeAvailable()
+	{
+		try
+		{
+			Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			return field.get(null) != null;
+		}
+		catch (Exception | LinkageError e)
+		{
+			return false;
+		}
+	}
+
+	private static boolean isReflectionFactoryAvailable()
+	{
+		try
+		{
+			Class<?> reflectionFactoryClass = Class.forName("sun.reflect.ReflectionFactory");
+			reflectionFactoryClass.getDeclaredMethod("newConstructorForSerialization", Class.class,
+				Constructor.class);
+			return true;
+		}
+		catch (Exception | LinkageError e)
+		{
+			return false;
+		}
+	}
+
 	/**
 	 * Tells if the current JVM is running Java 9 or above
 	 *
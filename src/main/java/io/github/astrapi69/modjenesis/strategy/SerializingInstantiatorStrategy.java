@@ -28,12 +28,15 @@ import java.io.NotSerializableException;
 import java.io.Serializable;
 
 import io.github.astrapi69.modjenesis.ObjenesisException;
+import io.github.astrapi69.modjenesis.UnsupportedReason;
 import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.SerializationInstantiatorHelper;
 import io.github.astrapi69.modjenesis.instantiator.android.AndroidSerializationInstantiator;
-import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassMethodHandleInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.gcj.GCJSerializationInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.perc.PercSerializationInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactorySerializationInstantiator;
+import io.github.astrapi69.modjenesis.strategy.PlatformDescription.Capability;
 
 /**
  * Guess the best serializing instantiator for a given class. The returned instantiator will
@@ -53,6 +56,9 @@ import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactorySeria
 public class SerializingInstantiatorStrategy extends BaseInstantiatorStrategy
 {
 
+	/** The platform is probed only once for all the classes */
+	private static final InstantiatorFactory FACTORY = resolveFactory();
+
 	/**
 	 * Return an {@link ObjectInstantiator} allowing to create instance following the java
 	 * serialization framework specifications.
@@ -69,29 +75,65 @@ public class SerializingInstantiatorStrategy extends BaseInstantiatorStrategy
 		{
 			throw new ObjenesisException(new NotSerializableException(type + " not serializable"));
 		}
+		return FACTORY.newInstantiatorOf(type);
+	}
+
+	/**
+	 * Also rejects the classes that aren't serializable or whose first non-serializable superclass
+	 * has no no-arg constructor
+	 *
+	 * @param type
+	 *            Class to check
+	 * @return the reason why the class isn't supported or null if an instantiator may be created
+	 */
+	@Override
+	public UnsupportedReason probe(Class<?> type)
+	{
+		UnsupportedReason reason = super.probe(type);
+		if (reason != null)
+		{
+			return reason;
+		}
+		if (!Serializable.class.isAssignableFrom(type))
+		{
+			return UnsupportedReason.NOT_SERIALIZABLE;
+		}
+		if (!SerializationInstantiatorHelper.hasNonSerializableSuperClassConstructor(type))
+		{
+			return UnsupportedReason.NO_SERIALIZATION_CONSTRUCTOR;
+		}
+		return null;
+	}
+
+	private static InstantiatorFactory resolveFactory()
+	{
 		if (PlatformDescription.JVM_NAME.startsWith(PlatformDescription.HOTSPOT)
 			|| PlatformDescription.isThisJVM(PlatformDescription.OPENJDK))
 		{
-			return new SunReflectionFactorySerializationInstantiator<>(type);
+			if (!PlatformDescription.hasCapability(Capability.REFLECTION_FACTORY))
+			{
+				return ObjectStreamClassMethodHandleInstantiator::new;
+			}
+			return SunReflectionFactorySerializationInstantiator::new;
 		}
 		else if (PlatformDescription.JVM_NAME.startsWith(PlatformDescription.DALVIK))
 		{
 			if (PlatformDescription.isAndroidOpenJDK())
 			{
-				return new ObjectStreamClassInstantiator<>(type);
+				return ObjectStreamClassMethodHandleInstantiator::new;
 			}
-			return new AndroidSerializationInstantiator<>(type);
+			return AndroidSerializationInstantiator::new;
 		}
 		else if (PlatformDescription.JVM_NAME.startsWith(PlatformDescription.GNU))
 		{
-			return new GCJSerializationInstantiator<>(type);
+			return GCJSerializationInstantiator::new;
 		}
 		else if (PlatformDescription.JVM_NAME.startsWith(PlatformDescription.PERC))
 		{
-			return new PercSerializationInstantiator<>(type);
+			return PercSerializationInstantiator::new;
 		}
 
-		return new SunReflectionFactorySerializationInstantiator<>(type);
+		return SunReflectionFactorySerializationInstantiator::new;
 	}
 
 }
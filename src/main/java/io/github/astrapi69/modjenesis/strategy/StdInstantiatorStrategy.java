@@ -32,6 +32,7 @@ import io.github.astrapi69.modjenesis.instantiator.gcj.GCJInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.perc.PercInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
 import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+import io.github.astrapi69.modjenesis.strategy.PlatformDescription.Capability;
 
 /**
  * Guess the best instantiator for a given class. The instantiator will instantiate the class
@@ -50,6 +51,9 @@ import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator
 public class StdInstantiatorStrategy extends BaseInstantiatorStrategy
 {
 
+	/** The platform is probed only once for all the classes */
+	private static final InstantiatorFactory FACTORY = resolveFactory();
+
 	/**
 	 * Return an {@link ObjectInstantiator} allowing to create instance without any constructor
 	 * being called.
@@ -62,45 +66,52 @@ public class StdInstantiatorStrategy extends BaseInstantiatorStrategy
 	 */
 	public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
 	{
+		return FACTORY.newInstantiatorOf(type);
+	}
 
+	private static InstantiatorFactory resolveFactory()
+	{
 		if (PlatformDescription.isThisJVM(PlatformDescription.HOTSPOT)
 			|| PlatformDescription.isThisJVM(PlatformDescription.OPENJDK))
 		{
+			if (!PlatformDescription.hasCapability(Capability.REFLECTION_FACTORY))
+			{
+				return UnsafeFactoryInstantiator::new;
+			}
 			// The UnsafeFactoryInstantiator would also work. But according to benchmarks, it is 2.5
 			// times slower. So I prefer to use this one
-			return new SunReflectionFactoryInstantiator<>(type);
+			return SunReflectionFactoryInstantiator::new;
 		}
 		else if (PlatformDescription.isThisJVM(PlatformDescription.DALVIK))
 		{
 			if (PlatformDescription.isAndroidOpenJDK())
 			{
 				// Starting at Android N which is based on OpenJDK
-				return new UnsafeFactoryInstantiator<>(type);
+				return UnsafeFactoryInstantiator::new;
 			}
 			if (PlatformDescription.ANDROID_VERSION <= 10)
 			{
 				// Android 2.3 Gingerbread and lower
-				return new Android10Instantiator<>(type);
+				return Android10Instantiator::new;
 			}
 			if (PlatformDescription.ANDROID_VERSION <= 17)
 			{
 				// Android 3.0 Honeycomb to 4.2 Jelly Bean
-				return new Android17Instantiator<>(type);
+				return Android17Instantiator::new;
 			}
 			// Android 4.3 until Android N
-			return new Android18Instantiator<>(type);
+			return Android18Instantiator::new;
 		}
 		else if (PlatformDescription.isThisJVM(PlatformDescription.GNU))
 		{
-			return new GCJInstantiator<>(type);
+			return GCJInstantiator::new;
 		}
 		else if (PlatformDescription.isThisJVM(PlatformDescription.PERC))
 		{
-			return new PercInstantiator<>(type);
+			return PercInstantiator::new;
 		}
 
 		// Fallback instantiator, should work with most modern JVM
-		return new UnsafeFactoryInstantiator<>(type);
-
+		return UnsafeFactoryInstantiator::new;
 	}
 }
@@ -20,9 +20,12 @@
  */
 module modjenesis.main
 {
+	requires static java.management;
+	requires static jdk.jfr;
 	requires jdk.unsupported;
 
 	exports io.github.astrapi69.modjenesis;
+	exports io.github.astrapi69.modjenesis.cache;
 	exports io.github.astrapi69.modjenesis.instantiator;
 	exports io.github.astrapi69.modjenesis.instantiator.android;
 	exports io.github.astrapi69.modjenesis.instantiator.annotations;
@@ -31,5 +34,6 @@ module modjenesis.main
 	exports io.github.astrapi69.modjenesis.instantiator.perc;
 	exports io.github.astrapi69.modjenesis.instantiator.sun;
 	exports io.github.astrapi69.modjenesis.instantiator.util;
+	exports io.github.astrapi69.modjenesis.monitoring;
 	exports io.github.astrapi69.modjenesis.strategy;
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.NullInstantiator;
+import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
+
+/**
+ * Stress tests making sure the strategy is called only once per class when many threads miss the
+ * cache at the same time.
+ *
+ * @author Asterios Raptis
+ */
+public class ObjenesisBaseConcurrencyTest
+{
+
+	private static final int THREADS = 64;
+
+	private static final int ROUNDS = 20;
+
+	private static final Class<?>[] TYPES = { A.class, B.class, C.class, D.class };
+
+	static class A
+	{
+	}
+
+	static class B
+	{
+	}
+
+	static class C
+	{
+	}
+
+	static class D
+	{
+	}
+
+	/** Strategy counting its calls and being slow to widen the race window */
+	static class CountingStrategy implements InstantiatorStrategy
+	{
+		final Map<Class<?>, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+		public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+		{
+			calls.computeIfAbsent(type, key -> new AtomicInteger()).incrementAndGet();
+			try
+			{
+				Thread.sleep(5);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			return new NullInstantiator<>(type);
+		}
+	}
+
+	@Test
+	public void testStrategyCalledOncePerClass() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try
+		{
+			for (int round = 0; round < ROUNDS; round++)
+			{
+				CountingStrategy strategy = new CountingStrategy();
+				ObjenesisBase objenesis = new ObjenesisBase(strategy);
+				CyclicBarrier barrier = new CyclicBarrier(THREADS);
+				List<Future<ObjectInstantiator<?>>> results = new ArrayList<>();
+				for (int i = 0; i < THREADS; i++)
+				{
+					Class<?> type = TYPES[i % TYPES.length];
+					results.add(executor.submit(() -> {
+						barrier.await();
+						return objenesis.getInstantiatorOf(type);
+					}));
+				}
+				for (int i = 0; i < THREADS; i++)
+				{
+					ObjectInstantiator<?> instantiator = results.get(i).get();
+					assertSame(objenesis.getInstantiatorOf(TYPES[i % TYPES.length]), instantiator);
+				}
+				for (Class<?> type : TYPES)
+				{
+					assertEquals(1, strategy.calls.get(type).get(), type.getName());
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testFailureIsPropagatedAndRetried()
+	{
+		AtomicInteger calls = new AtomicInteger();
+		ObjenesisBase objenesis = new ObjenesisBase(new InstantiatorStrategy()
+		{
+			public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+			{
+				if (calls.incrementAndGet() == 1)
+				{
+					throw new ObjenesisException("first call fails");
+				}
+				return new NullInstantiator<>(type);
+			}
+		});
+		assertThrows(ObjenesisException.class, () -> objenesis.getInstantiatorOf(A.class));
+		// Nothing was cached, so the next call creates the instantiator again
+		assertSame(objenesis.getInstantiatorOf(A.class), objenesis.getInstantiatorOf(A.class));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void testRecursiveCreationFails()
+	{
+		ObjenesisBase[] objenesis = new ObjenesisBase[1];
+		objenesis[0] = new ObjenesisBase(new InstantiatorStrategy()
+		{
+			public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+			{
+				return objenesis[0].getInstantiatorOf(type);
+			}
+		});
+		assertThrows(ObjenesisException.class, () -> objenesis[0].getInstantiatorOf(A.class));
+	}
+}
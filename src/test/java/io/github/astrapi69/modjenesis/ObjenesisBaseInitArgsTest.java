@@ -0,0 +1,202 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.cache.BoundedInstantiatorCache;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCache;
+import io.github.astrapi69.modjenesis.cache.InstantiatorCache;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ConstructorInstantiator;
+import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
+import io.github.astrapi69.modjenesis.strategy.StdInstantiatorStrategy;
+
+/**
+ * Test class for the {@link ObjenesisBase} using the arguments given to it
+ *
+ * @author Asterios Raptis
+ */
+public class ObjenesisBaseInitArgsTest
+{
+
+	public static class Person
+	{
+		final String name;
+		final int age;
+
+		public Person()
+		{
+			this("unknown", -1);
+		}
+
+		public Person(String name)
+		{
+			this(name, 0);
+		}
+
+		public Person(String name, int age)
+		{
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	/** Strategy creating constructor instantiators for the arguments, recording its calls */
+	static class ConstructorStrategy implements InstantiatorStrategy
+	{
+		final List<Object[]> calls = new ArrayList<>();
+
+		public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+		{
+			calls.add(initArgs);
+			return new ConstructorInstantiator<>(type, initArgs);
+		}
+	}
+
+	@Test
+	public void testArgumentsPassedAndCachedPerSignature()
+	{
+		ConstructorStrategy strategy = new ConstructorStrategy();
+		ObjenesisBase objenesis = new ObjenesisBase(strategy, new ClassValueInstantiatorCache(),
+			true);
+		assertTrue(objenesis.isUsingInitArgs());
+
+		Person person = objenesis.newInstance(Person.class, "Ann", 31);
+		assertEquals("Ann", person.name);
+		assertEquals(31, person.age);
+		assertEquals("Bob", objenesis.newInstance(Person.class, "Bob", 40).name);
+		assertEquals(1, strategy.calls.size());
+
+		person = objenesis.newInstance(Person.class, "Eve");
+		assertEquals("Eve", person.name);
+		assertEquals(0, person.age);
+		assertNull(objenesis.newInstance(Person.class, null, 5).name);
+		assertEquals(-1, objenesis.newInstance(Person.class).age);
+		assertEquals(4, strategy.calls.size());
+
+		ObjectInstantiator<Person> twoArguments = objenesis.getInstantiatorOf(Person.class, "x", 1);
+		assertSame(twoArguments, objenesis.getInstantiatorOf(Person.class, "y", 2));
+		assertNotSame(twoArguments, objenesis.getInstantiatorOf(Person.class, "z"));
+		assertNotSame(twoArguments, objenesis.getInstantiatorOf(Person.class));
+		assertEquals(4, strategy.calls.size());
+		assertEquals(1, objenesis.getCache().size());
+	}
+
+	@Test
+	public void testSignaturesInConfiguredCache()
+	{
+		ConstructorStrategy strategy = new ConstructorStrategy();
+		InstantiatorCache cache = new ClassValueInstantiatorCache(true);
+		ObjenesisBase objenesis = new ObjenesisBase(strategy, cache, true);
+		objenesis.newInstance(Person.class, "Ann", 31);
+		objenesis.newInstance(Person.class, "Eve");
+		objenesis.newInstance(Person.class, "Bob", 40);
+		assertEquals(2, strategy.calls.size());
+		assertEquals(2, cache.getStatistics().getLoadCount());
+		assertEquals(1, cache.size());
+
+		cache.remove(Person.class);
+		objenesis.newInstance(Person.class, "Ann", 31);
+		assertEquals(3, strategy.calls.size());
+		cache.clear();
+		objenesis.newInstance(Person.class, "Ann", 31);
+		assertEquals(4, strategy.calls.size());
+	}
+
+	@Test
+	public void testSignaturesEvictedWithTheirClass()
+	{
+		ConstructorStrategy strategy = new ConstructorStrategy();
+		BoundedInstantiatorCache cache = new BoundedInstantiatorCache(1, true);
+		ObjenesisBase objenesis = new ObjenesisBase(strategy, cache, true);
+		objenesis.newInstance(Person.class, "Ann", 31);
+		objenesis.newInstance(StringBuilder.class, "text");
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getStatistics().getEvictionCount());
+		// whichever class was evicted, its signature instantiators went with it
+		objenesis.newInstance(Person.class, "Ann", 31);
+		objenesis.newInstance(StringBuilder.class, "text");
+		assertTrue(strategy.calls.size() > 2);
+	}
+
+	@Test
+	public void testSignaturesBounded()
+	{
+		ConstructorStrategy strategy = new ConstructorStrategy()
+		{
+			@Override
+			public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+			{
+				calls.add(initArgs);
+				return new StdInstantiatorStrategy().newInstantiatorOf(type);
+			}
+		};
+		ObjenesisBase objenesis = new ObjenesisBase(strategy, new ClassValueInstantiatorCache(),
+			true);
+		int signatures = ObjenesisBase.MAX_SIGNATURES * 2;
+		for (int round = 0; round < 2; round++)
+		{
+			for (int dimensions = 1; dimensions <= signatures; dimensions++)
+			{
+				objenesis.newInstance(Person.class,
+					Array.newInstance(String.class, new int[dimensions]));
+			}
+		}
+		// only the first signatures are kept, the other ones are created again
+		assertEquals(signatures + ObjenesisBase.MAX_SIGNATURES, strategy.calls.size());
+	}
+
+	@Test
+	public void testArgumentsIgnoredByDefault()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		assertFalse(objenesis.isUsingInitArgs());
+		Person person = objenesis.newInstance(Person.class, "Ann", 31);
+		assertNull(person.name);
+		assertSame(objenesis.getInstantiatorOf(Person.class),
+			objenesis.getInstantiatorOf(Person.class, "Bob"));
+	}
+
+	@Test
+	public void testWithoutCache()
+	{
+		ObjenesisBase objenesis = new ObjenesisBase(new StdInstantiatorStrategy(), null, true);
+		Person person = objenesis.newInstance(Person.class, "Ann", 31);
+		assertNull(person.name);
+		assertEquals(0, person.age);
+	}
+}
@@ -0,0 +1,134 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Test class for the name-based methods of {@link Objenesis} and {@link ObjenesisBase}
+ *
+ * @author Asterios Raptis
+ */
+public class ObjenesisClassNameTest
+{
+
+	private static final String MISSING = "io.github.astrapi69.modjenesis.Missing";
+
+	public static class Message
+	{
+		int value = 42;
+	}
+
+	/** Class loader counting the names it is asked to load */
+	private static final class CountingClassLoader extends ClassLoader
+	{
+		final AtomicInteger loads = new AtomicInteger();
+
+		CountingClassLoader()
+		{
+			super(ObjenesisClassNameTest.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+		{
+			loads.incrementAndGet();
+			return super.loadClass(name, resolve);
+		}
+	}
+
+	@Test
+	public void testGetInstantiatorOf()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		ClassLoader classLoader = getClass().getClassLoader();
+		ObjectInstantiator<Message> instantiator = objenesis
+			.getInstantiatorOf(Message.class.getName(), classLoader);
+		assertSame(objenesis.getInstantiatorOf(Message.class), instantiator);
+		assertEquals(0, instantiator.newInstance().value);
+		assertEquals(StringBuilder.class, objenesis
+			.getInstantiatorOf(StringBuilder.class.getName(), null).newInstance().getClass());
+		assertThrows(ObjenesisException.class,
+			() -> objenesis.getInstantiatorOf(MISSING, classLoader));
+	}
+
+	@Test
+	public void testTryGetInstantiatorOf()
+	{
+		Objenesis objenesis = new ObjenesisStd();
+		ClassLoader classLoader = getClass().getClassLoader();
+		assertTrue(
+			objenesis.tryGetInstantiatorOf(Message.class.getName(), classLoader).isPresent());
+		assertTrue(objenesis.tryGetInstantiatorOf(MISSING, classLoader).isEmpty());
+		assertTrue(objenesis.tryGetInstantiatorOf(Runnable.class.getName(), null).isEmpty());
+	}
+
+	@Test
+	public void testResolvedOnce()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		CountingClassLoader classLoader = new CountingClassLoader();
+		for (int i = 0; i < 3; i++)
+		{
+			objenesis.getInstantiatorOf(Message.class.getName(), classLoader);
+			objenesis.tryGetInstantiatorOf(MISSING, classLoader);
+			// switching class loaders keeps the resolutions of each
+			objenesis.getInstantiatorOf(Message.class.getName(), getClass().getClassLoader());
+		}
+		assertEquals(2, classLoader.loads.get());
+
+		objenesis.clearClassNames();
+		objenesis.tryGetInstantiatorOf(MISSING, classLoader);
+		assertEquals(3, classLoader.loads.get());
+	}
+
+	@Test
+	public void testMissingNamesBounded()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		CountingClassLoader classLoader = new CountingClassLoader();
+		int names = ClassNameResolver.MAX_NOT_FOUND + 1;
+		for (int i = 0; i < names; i++)
+		{
+			objenesis.resolveClass(MISSING + i, classLoader);
+		}
+		assertEquals(names, classLoader.loads.get());
+		// only the name past the bound is looked up again
+		for (int i = 0; i < names; i++)
+		{
+			objenesis.resolveClass(MISSING + i, classLoader);
+		}
+		assertEquals(names + 1, classLoader.loads.get());
+	}
+}
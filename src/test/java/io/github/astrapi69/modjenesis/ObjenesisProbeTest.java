@@ -0,0 +1,171 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
+import io.github.astrapi69.modjenesis.strategy.StdInstantiatorStrategy;
+
+/**
+ * Test class for the probing methods of {@link Objenesis} and {@link ObjenesisBase}
+ *
+ * @author Asterios Raptis
+ */
+public class ObjenesisProbeTest
+{
+
+	public static class Base
+	{
+		public Base(int value)
+		{
+		}
+	}
+
+	public static class WithoutSerializationConstructor extends Base implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		public WithoutSerializationConstructor()
+		{
+			super(1);
+		}
+	}
+
+	public static class Message implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+	}
+
+	@Test
+	public void testStd()
+	{
+		Objenesis objenesis = new ObjenesisStd();
+		assertEquals(UnsupportedReason.PRIMITIVE, objenesis.getUnsupportedReason(int.class));
+		assertEquals(UnsupportedReason.ARRAY, objenesis.getUnsupportedReason(String[].class));
+		assertEquals(UnsupportedReason.INTERFACE, objenesis.getUnsupportedReason(Runnable.class));
+		assertEquals(UnsupportedReason.ABSTRACT,
+			objenesis.getUnsupportedReason(AbstractList.class));
+		assertNull(objenesis.getUnsupportedReason(Base.class));
+		assertTrue(objenesis.canInstantiate(Base.class));
+		assertFalse(objenesis.canInstantiate(Runnable.class));
+		assertEquals(Base.class,
+			objenesis.tryGetInstantiatorOf(Base.class).get().newInstance().getClass());
+		assertTrue(objenesis.tryGetInstantiatorOf(Runnable.class).isEmpty());
+	}
+
+	@Test
+	public void testSerializer()
+	{
+		Objenesis objenesis = new ObjenesisSerializer();
+		assertEquals(UnsupportedReason.NOT_SERIALIZABLE,
+			objenesis.getUnsupportedReason(Base.class));
+		assertEquals(UnsupportedReason.NO_SERIALIZATION_CONSTRUCTOR,
+			objenesis.getUnsupportedReason(WithoutSerializationConstructor.class));
+		assertEquals(UnsupportedReason.INTERFACE,
+			objenesis.getUnsupportedReason(Serializable.class));
+		assertTrue(objenesis.canInstantiate(Message.class));
+		assertTrue(objenesis.tryGetInstantiatorOf(Base.class).isEmpty());
+	}
+
+	@Test
+	public void testFailureRememberedUntilCleared()
+	{
+		AtomicInteger calls = new AtomicInteger();
+		InstantiatorStrategy strategy = new InstantiatorStrategy()
+		{
+			@Override
+			public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+			{
+				// only the first creation fails
+				if (calls.incrementAndGet() == 1 && type == Message.class)
+				{
+					throw new ObjenesisException("not yet");
+				}
+				return new StdInstantiatorStrategy().newInstantiatorOf(type);
+			}
+		};
+		ObjenesisBase objenesis = new ObjenesisBase(strategy);
+		for (int i = 0; i < 3; i++)
+		{
+			assertEquals(UnsupportedReason.INSTANTIATOR_FAILED,
+				objenesis.getUnsupportedReason(Message.class));
+			assertTrue(objenesis.tryGetInstantiatorOf(Message.class).isEmpty());
+		}
+		assertEquals(1, calls.get());
+
+		objenesis.clearCache();
+		assertNull(objenesis.getUnsupportedReason(Message.class));
+		assertEquals(Message.class,
+			objenesis.tryGetInstantiatorOf(Message.class).get().newInstance().getClass());
+		assertEquals(2, calls.get());
+		// the classes found supported aren't created again only to be probed
+		for (int i = 0; i < 3; i++)
+		{
+			assertTrue(objenesis.canInstantiate(Message.class));
+			assertTrue(objenesis.canInstantiate(Base.class));
+		}
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	public void testStrategyRejectionRemembered()
+	{
+		AtomicInteger probes = new AtomicInteger();
+		InstantiatorStrategy strategy = new InstantiatorStrategy()
+		{
+			@Override
+			public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+			{
+				return new StdInstantiatorStrategy().newInstantiatorOf(type);
+			}
+
+			@Override
+			public UnsupportedReason probe(Class<?> type)
+			{
+				probes.incrementAndGet();
+				return UnsupportedReason.NOT_SERIALIZABLE;
+			}
+		};
+		Objenesis objenesis = new ObjenesisBase(strategy, false);
+		for (int i = 0; i < 3; i++)
+		{
+			assertEquals(UnsupportedReason.NOT_SERIALIZABLE,
+				objenesis.getUnsupportedReason(Base.class));
+			assertTrue(objenesis.tryGetInstantiatorOf(Base.class).isEmpty());
+		}
+		assertEquals(1, probes.get());
+	}
+}
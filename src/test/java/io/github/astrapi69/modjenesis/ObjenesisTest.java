@@ -25,9 +25,13 @@
 package io.github.astrapi69.modjenesis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import io.github.astrapi69.modjenesis.Objenesis;
@@ -68,6 +72,24 @@ public class ObjenesisTest
 		assertEquals(getClass(), o.newInstance(getClass()).getClass());
 	}
 
+	@Test
+	public final void testNewInstances()
+	{
+		Objenesis o = new ObjenesisStd();
+		ObjenesisTest[] array = o.newInstances(ObjenesisTest.class, new ObjenesisTest[3]);
+		for (ObjenesisTest instance : array)
+		{
+			assertEquals(ObjenesisTest.class, instance.getClass());
+		}
+		assertNotSame(array[0], array[1]);
+
+		List<Object> list = o.newInstances(ObjenesisTest.class, new ArrayList<>(), 4);
+		assertEquals(4, list.size());
+		assertEquals(ObjenesisTest.class, list.get(3).getClass());
+		assertThrows(IllegalArgumentException.class,
+			() -> o.newInstances(ObjenesisTest.class, list, -1));
+	}
+
 	@Test
 	public final void testGetInstantiatorOf()
 	{
@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for the class {@link WarmUpManifest} and its recording by {@link ObjenesisBase}
+ *
+ * @author Asterios Raptis
+ */
+public class WarmUpManifestTest
+{
+
+	static class A
+	{
+	}
+
+	static class B
+	{
+	}
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testRecordAndWarmUp() throws IOException
+	{
+		ObjenesisBase training = new ObjenesisStd();
+		training.getInstantiatorOf(String.class);
+		WarmUpManifest manifest = training.startRecording();
+		assertSame(manifest, training.startRecording());
+		Class<?> instantiatorType = training.getInstantiatorOf(A.class).getClass();
+		training.getInstantiatorOf(B.class);
+		training.getInstantiatorOf(A.class);
+		assertSame(manifest, training.stopRecording());
+		assertNull(training.stopRecording());
+
+		assertEquals(2, manifest.size());
+		assertEquals(instantiatorType.getName(), manifest.getEntries().get(A.class.getName()));
+
+		Path file = directory.resolve("warm-up.manifest");
+		manifest.write(file);
+		Files.write(file, Arrays.asList("com.example.Missing\tunknown"), StandardCharsets.UTF_8,
+			StandardOpenOption.APPEND);
+		assertEquals(3, WarmUpManifest.read(file).size());
+
+		ObjenesisBase objenesis = new ObjenesisStd();
+		WarmUpResult result = objenesis.warmUpFrom(file, getClass().getClassLoader());
+		assertEquals(2, result.getWarmedUpCount());
+		assertFalse(result.isSuccessful());
+		assertInstanceOf(ClassNotFoundException.class,
+			result.getFailures().get("com.example.Missing"));
+		assertNotNull(objenesis.getCache().peek(A.class));
+		assertNotNull(objenesis.getCache().peek(B.class));
+		assertNull(objenesis.getCache().peek(String.class));
+	}
+
+	@Test
+	public void testRecordTo()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		Path file = directory.resolve("never-written.manifest");
+		WarmUpManifest manifest = objenesis.recordTo(file);
+		assertSame(manifest, objenesis.recordTo(file));
+		objenesis.getInstantiatorOf(A.class);
+		assertSame(manifest, objenesis.stopRecording());
+		assertEquals(1, manifest.size());
+		assertFalse(Files.exists(file));
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.cache.BoundedInstantiatorCache;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCache;
+import io.github.astrapi69.modjenesis.cache.InstantiatorCache;
+
+/**
+ * Test class for the warm-up methods of {@link Objenesis}
+ *
+ * @author Asterios Raptis
+ */
+public class WarmUpTest
+{
+
+	static class A
+	{
+	}
+
+	static class B
+	{
+	}
+
+	@Test
+	public void testWarmUpClasses()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		List<Class<?>> classes = Arrays.asList(A.class, B.class, int.class);
+		WarmUpResult result = objenesis.warmUp(classes, 2);
+
+		assertEquals(2, result.getWarmedUpCount());
+		assertFalse(result.isSuccessful());
+		assertInstanceOf(IllegalArgumentException.class, result.getFailures().get("int"));
+		assertNotNull(result.getDuration());
+		assertNotNull(objenesis.getCache().peek(A.class));
+		assertNotNull(objenesis.getCache().peek(B.class));
+	}
+
+	@Test
+	public void testWarmUpPackage()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		WarmUpResult result = objenesis.warmUp(InstantiatorCache.class.getPackageName(),
+			getClass().getClassLoader());
+
+		assertTrue(result.isSuccessful(), result.toString());
+		InstantiatorCache cache = objenesis.getCache();
+		assertNotNull(cache.peek(BoundedInstantiatorCache.class));
+		assertNotNull(cache.peek(ClassValueInstantiatorCache.class));
+		assertNull(cache.peek(InstantiatorCache.class));
+		assertEquals(result.getWarmedUpCount(), cache.size());
+	}
+
+	@Test
+	public void testWarmUpPackageInJar()
+	{
+		ObjenesisBase objenesis = new ObjenesisStd();
+		WarmUpResult result = objenesis.warmUp(Test.class.getPackageName(),
+			Test.class.getClassLoader(), 1);
+
+		assertTrue(result.getWarmedUpCount() > 0, result.toString());
+	}
+
+	@Test
+	public void testInvalidParallelism()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> new ObjenesisStd().warmUp(Arrays.asList(A.class), 0));
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCacheTest.IsolatingClassLoader;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCacheTest.Pojo;
+import io.github.astrapi69.modjenesis.instantiator.basic.NullInstantiator;
+
+/**
+ * @author Asterios Raptis
+ */
+public class BoundedInstantiatorCacheTest
+{
+
+	@SuppressWarnings("unchecked")
+	private static List<Class<Object>> isolatedClasses(int count) throws ClassNotFoundException
+	{
+		List<Class<Object>> classes = new ArrayList<>();
+		for (int i = 0; i < count; i++)
+		{
+			classes.add((Class<Object>)new IsolatingClassLoader(Pojo.class.getName())
+				.loadClass(Pojo.class.getName()));
+		}
+		return classes;
+	}
+
+	@Test
+	public void testInvalidMaximumSize()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new BoundedInstantiatorCache(0));
+	}
+
+	@Test
+	public void testEvictionKeepsMaximumSize() throws Exception
+	{
+		BoundedInstantiatorCache cache = new BoundedInstantiatorCache(8, true);
+		for (Class<Object> type : isolatedClasses(20))
+		{
+			assertNull(cache.putIfAbsent(type, new NullInstantiator<>(type)));
+			assertTrue(cache.size() <= 8);
+		}
+		assertEquals(8, cache.size());
+		assertEquals(12, cache.getStatistics().getEvictionCount());
+	}
+
+	@Test
+	public void testFrequentlyUsedInstantiatorSurvives() throws Exception
+	{
+		BoundedInstantiatorCache cache = new BoundedInstantiatorCache(4);
+		NullInstantiator<Pojo> hot = new NullInstantiator<>(Pojo.class);
+		cache.putIfAbsent(Pojo.class, hot);
+		for (Class<Object> type : isolatedClasses(50))
+		{
+			cache.putIfAbsent(type, new NullInstantiator<>(type));
+			// Keep the hot instantiator in use
+			assertSame(hot, cache.get(Pojo.class));
+		}
+	}
+
+	@Test
+	public void testStatistics()
+	{
+		BoundedInstantiatorCache cache = new BoundedInstantiatorCache(4, true);
+		Objenesis objenesis = new ObjenesisStd(cache);
+		objenesis.newInstance(Pojo.class);
+		objenesis.newInstance(Pojo.class);
+		objenesis.newInstance(Pojo.class);
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getLoadCount());
+		assertTrue(statistics.getTotalLoadTime() > 0);
+		assertEquals(0, statistics.getEvictionCount());
+	}
+
+	@Test
+	public void testRemoveAndClear()
+	{
+		BoundedInstantiatorCache cache = new BoundedInstantiatorCache(4);
+		cache.putIfAbsent(Pojo.class, new NullInstantiator<>(Pojo.class));
+		cache.remove(Pojo.class);
+		assertNull(cache.get(Pojo.class));
+		assertEquals(0, cache.size());
+
+		cache.putIfAbsent(Pojo.class, new NullInstantiator<>(Pojo.class));
+		cache.clear();
+		assertNull(cache.get(Pojo.class));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testCollectedClassesAreDropped() throws Exception
+	{
+		BoundedInstantiatorCache cache = new BoundedInstantiatorCache(100);
+		Objenesis objenesis = new ObjenesisStd(cache);
+		for (Class<Object> type : isolatedClasses(10))
+		{
+			assertNotNull(objenesis.newInstance(type));
+		}
+		assertEquals(10, cache.size());
+
+		for (int i = 0; i < 20 && cache.size() > 0; i++)
+		{
+			System.gc();
+			Thread.sleep(50);
+			// Expunging happens on the next write
+			cache.putIfAbsent(Pojo.class, new NullInstantiator<>(Pojo.class));
+			cache.remove(Pojo.class);
+		}
+		assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.NullInstantiator;
+
+/**
+ * @author Asterios Raptis
+ */
+public class ClassValueInstantiatorCacheTest
+{
+
+	public static class Pojo
+	{
+	}
+
+	/**
+	 * Class loader defining its own copy of a class, so the copies share the name but not the
+	 * identity
+	 */
+	static class IsolatingClassLoader extends ClassLoader
+	{
+		private final String isolatedName;
+
+		IsolatingClassLoader(String isolatedName)
+		{
+			super(IsolatingClassLoader.class.getClassLoader());
+			this.isolatedName = isolatedName;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+		{
+			if (!name.equals(isolatedName))
+			{
+				return super.loadClass(name, resolve);
+			}
+			try (InputStream in = getParent()
+				.getResourceAsStream(name.replace('.', '/') + ".class"))
+			{
+				byte[] bytes = in.readAllBytes();
+				return defineClass(name, bytes, 0, bytes.length);
+			}
+			catch (IOException e)
+			{
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+
+	@Test
+	public void testPutIfAbsent()
+	{
+		InstantiatorCache cache = new ClassValueInstantiatorCache();
+		ObjectInstantiator<Pojo> first = new NullInstantiator<>(Pojo.class);
+		ObjectInstantiator<Pojo> second = new NullInstantiator<>(Pojo.class);
+
+		assertNull(cache.get(Pojo.class));
+		assertNull(cache.putIfAbsent(Pojo.class, first));
+		assertSame(first, cache.putIfAbsent(Pojo.class, second));
+		assertSame(first, cache.get(Pojo.class));
+	}
+
+	@Test
+	public void testRemoveAndClear()
+	{
+		InstantiatorCache cache = new ClassValueInstantiatorCache();
+		cache.putIfAbsent(Pojo.class, new NullInstantiator<>(Pojo.class));
+		cache.remove(Pojo.class);
+		assertNull(cache.get(Pojo.class));
+
+		cache.putIfAbsent(Pojo.class, new NullInstantiator<>(Pojo.class));
+		cache.clear();
+		assertNull(cache.get(Pojo.class));
+	}
+
+	@Test
+	public void testConcurrentPutAndRemove() throws Exception
+	{
+		InstantiatorCache cache = new ClassValueInstantiatorCache();
+		ObjectInstantiator<Pojo> instantiator = new NullInstantiator<>(Pojo.class);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			for (int round = 0; round < 5000; round++)
+			{
+				CyclicBarrier barrier = new CyclicBarrier(2);
+				Future<?> put = executor.submit(() -> {
+					barrier.await();
+					return cache.putIfAbsent(Pojo.class, instantiator);
+				});
+				Future<?> remove = executor.submit(() -> {
+					barrier.await();
+					cache.remove(Pojo.class);
+					return null;
+				});
+				put.get();
+				remove.get();
+				// the count always matches what the lookups see
+				assertEquals(cache.get(Pojo.class) == null ? 0 : 1, cache.size());
+
+				barrier.reset();
+				Future<?> putAgain = executor.submit(() -> {
+					barrier.await();
+					return cache.putIfAbsent(Pojo.class, instantiator);
+				});
+				Future<?> clear = executor.submit(() -> {
+					barrier.await();
+					cache.clear();
+					return null;
+				});
+				putAgain.get();
+				clear.get();
+				assertEquals(cache.get(Pojo.class) == null ? 0 : 1, cache.size());
+				cache.clear();
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testSameNameFromDifferentClassLoaders() throws Exception
+	{
+		Class<?> first = new IsolatingClassLoader(Pojo.class.getName())
+			.loadClass(Pojo.class.getName());
+		Class<?> second = new IsolatingClassLoader(Pojo.class.getName())
+			.loadClass(Pojo.class.getName());
+		assertEquals(first.getName(), second.getName());
+		assertNotSame(first, second);
+
+		Objenesis objenesis = new ObjenesisStd();
+		assertSame(first, objenesis.newInstance(first).getClass());
+		assertSame(second, objenesis.newInstance(second).getClass());
+		assertNotSame(objenesis.getInstantiatorOf(first), objenesis.getInstantiatorOf(second));
+	}
+}
@@ -0,0 +1,195 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisBase;
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCache;
+import io.github.astrapi69.modjenesis.instantiator.basic.ConstructorInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectInputStreamInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.basic.ObjectStreamClassMethodHandleInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactorySerializationInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+import io.github.astrapi69.modjenesis.monitoring.InstrumentedObjenesis;
+import io.github.astrapi69.modjenesis.strategy.InstantiatorStrategy;
+
+/**
+ * Allocation gate of the hot paths: fails when a built-in instantiator allocates more bytes per
+ * call than its budget, so that garbage added per call is caught before it ships. The bytes are
+ * read from the allocation counter of the current thread after a warm-up, the budgets being what
+ * the JDK allocates internally, if any, on top of the instance created. Skipped on JVMs without
+ * thread allocation counters.
+ *
+ * @author Asterios Raptis
+ */
+public class AllocationBudgetTest
+{
+
+	private static final int WARM_UP_ITERATIONS = 20_000;
+
+	private static final int ITERATIONS = 10_000;
+
+	/** Slack for allocations of the harness, like a class loaded on first use */
+	private static final long TOLERANCE = 8;
+
+	/** Keeps the instances reachable so they can't be scalar replaced */
+	static volatile Object sink;
+
+	private static com.sun.management.ThreadMXBean threads;
+
+	/** Bytes allocated by new Pojo(), depending on the object layout of the JVM */
+	private static long instanceSize;
+
+	public static class Pojo implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		int id;
+		String name;
+
+		public Pojo()
+		{
+		}
+
+		public Pojo(int id, String name)
+		{
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@BeforeAll
+	public static void setUpCounter()
+	{
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+		instanceSize = bytesPerCall(Pojo::new);
+	}
+
+	@Test
+	public void testNewInstance()
+	{
+		assertNewInstanceBudget(SunReflectionFactoryInstantiator::new, 0);
+		assertNewInstanceBudget(SunReflectionFactorySerializationInstantiator::new, 0);
+		assertNewInstanceBudget(UnsafeFactoryInstantiator::new, 0);
+		assertNewInstanceBudget(ConstructorInstantiator::new, 0);
+		// The empty argument array created by ObjectStreamClass.newInstance
+		assertNewInstanceBudget(ObjectStreamClassInstantiator::new, 16);
+		assertNewInstanceBudget(ObjectStreamClassMethodHandleInstantiator::new, 16);
+		// The stream reading the instance, replaced every 64 instances
+		assertNewInstanceBudget(ObjectInputStreamInstantiator::new, 256);
+	}
+
+	@Test
+	public void testConstructorArguments()
+	{
+		ConstructorInstantiator<Pojo> instantiator = new ConstructorInstantiator<>(Pojo.class);
+		Object[] args = { 7, "name" };
+		assertBudget("ConstructorInstantiator.newInstance(Object...)",
+			() -> instantiator.newInstance(args), 0);
+
+		Objenesis objenesis = new ObjenesisBase(new InstantiatorStrategy()
+		{
+			public <T> ObjectInstantiator<T> newInstantiatorOf(Class<T> type, Object... initArgs)
+			{
+				return new ConstructorInstantiator<>(type, initArgs);
+			}
+		}, new ClassValueInstantiatorCache(), true);
+		assertBudget("Objenesis.newInstance(Class, Object...)",
+			() -> objenesis.newInstance(Pojo.class, args), 0);
+	}
+
+	@Test
+	public void testObjenesis()
+	{
+		Objenesis objenesis = new ObjenesisStd();
+		assertBudget("Cached getInstantiatorOf", () -> objenesis.getInstantiatorOf(Pojo.class),
+			-instanceSize);
+		assertBudget("Objenesis.newInstance", () -> objenesis.newInstance(Pojo.class), 0);
+		String className = Pojo.class.getName();
+		ClassLoader classLoader = Pojo.class.getClassLoader();
+		assertBudget("Cached getInstantiatorOf(String, ClassLoader)",
+			() -> objenesis.getInstantiatorOf(className, classLoader), -instanceSize);
+
+		Objenesis instrumented = new InstrumentedObjenesis(new ObjenesisStd());
+		assertBudget("Cached InstrumentedObjenesis.getInstantiatorOf",
+			() -> instrumented.getInstantiatorOf(Pojo.class), -instanceSize);
+	}
+
+	private static void assertNewInstanceBudget(
+		Function<Class<Pojo>, ObjectInstantiator<Pojo>> factory, long budget)
+	{
+		ObjectInstantiator<Pojo> instantiator = factory.apply(Pojo.class);
+		assertBudget(instantiator.getClass().getSimpleName() + ".newInstance()",
+			instantiator::newInstance, budget);
+	}
+
+	/**
+	 * Asserts the bytes allocated per call are within the budget
+	 *
+	 * @param name
+	 *            the name of the call in the failure message
+	 * @param call
+	 *            the call to measure
+	 * @param budget
+	 *            the bytes allowed per call on top of the size of an instance
+	 */
+	private static void assertBudget(String name, Supplier<?> call, long budget)
+	{
+		long bytesPerCall = bytesPerCall(call);
+		assertTrue(bytesPerCall <= instanceSize + budget + TOLERANCE, name + " allocates "
+			+ bytesPerCall + " bytes per call, its budget is " + (instanceSize + budget));
+	}
+
+	private static long bytesPerCall(Supplier<?> call)
+	{
+		for (int i = 0; i < WARM_UP_ITERATIONS; i++)
+		{
+			sink = call.get();
+		}
+		long start = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			sink = call.get();
+		}
+		return (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactorySerializationInstantiator;
+
+/**
+ * Test class for the class {@link SerializationInstantiatorHelper}
+ *
+ * @author Asterios Raptis
+ */
+public class SerializationInstantiatorHelperTest
+{
+
+	public static class Base
+	{
+		int initialized;
+
+		public Base()
+		{
+			initialized++;
+		}
+	}
+
+	public static class Entity extends Base implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		String name = "set by the constructor";
+	}
+
+	public static class Customer extends Entity
+	{
+		private static final long serialVersionUID = 1L;
+	}
+
+	public static class Order extends Base implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+	}
+
+	public static class NoDefaultConstructor
+	{
+		public NoDefaultConstructor(int value)
+		{
+		}
+	}
+
+	public static class Orphan extends NoDefaultConstructor implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		public Orphan()
+		{
+			super(1);
+		}
+	}
+
+	@Test
+	public void testSharedAncestor()
+	{
+		assertSame(Base.class, SerializationInstantiatorHelper.getNonSerializableSuperClass(
+			Customer.class));
+		assertSame(Base.class, SerializationInstantiatorHelper.getNonSerializableSuperClass(
+			Order.class));
+		assertSame(Base.class, SerializationInstantiatorHelper.getNonSerializableSuperClass(
+			Base.class));
+
+		Constructor<?> constructor = SerializationInstantiatorHelper
+			.getNonSerializableSuperClassConstructor(Customer.class);
+		assertEquals(Base.class, constructor.getDeclaringClass());
+		Constructor<?> other = SerializationInstantiatorHelper
+			.getNonSerializableSuperClassConstructor(Order.class);
+		// every caller gets its own copy, unaffected by the others
+		assertEquals(constructor, other);
+		assertNotSame(constructor, other);
+		// while the one of the callers in the package is looked up only once
+		assertSame(
+			SerializationInstantiatorHelper.nonSerializableSuperClassConstructor(Customer.class),
+			SerializationInstantiatorHelper.nonSerializableSuperClassConstructor(Order.class));
+	}
+
+	@Test
+	public void testNoSuitableConstructor()
+	{
+		ObjenesisException e = assertThrows(ObjenesisException.class,
+			() -> SerializationInstantiatorHelper
+				.getNonSerializableSuperClassConstructor(Orphan.class));
+		assertInstanceOf(NotSerializableException.class, e.getCause());
+		assertThrows(ObjenesisException.class,
+			() -> new SunReflectionFactorySerializationInstantiator<>(Orphan.class));
+	}
+
+	@Test
+	public void testSerializationInstantiator()
+	{
+		for (int i = 0; i < 2; i++)
+		{
+			Customer customer = new SunReflectionFactorySerializationInstantiator<>(Customer.class)
+				.newInstance();
+			assertNotNull(customer);
+			assertEquals(1, customer.initialized);
+			assertEquals(null, customer.name);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.basic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link ConstructorInstantiator}
+ *
+ * @author Asterios Raptis
+ */
+public class ConstructorInstantiatorTest
+{
+
+	public static class Person
+	{
+		final String name;
+		final int age;
+
+		public Person()
+		{
+			this(null, -1);
+		}
+
+		public Person(String name, int age)
+		{
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	@Test
+	public void testNewInstance()
+	{
+		ConstructorInstantiator<Person> instantiator = new ConstructorInstantiator<>(Person.class);
+		assertEquals(-1, instantiator.newInstance().age);
+		Person person = instantiator.newInstance("Ann", 31);
+		assertEquals("Ann", person.name);
+		assertEquals(31, person.age);
+		person = instantiator.newInstance(null, 32);
+		assertNull(person.name);
+		assertEquals(32, person.age);
+		assertEquals(-1, instantiator.newInstance().age);
+	}
+
+	@Test
+	public void testCreatedWithArguments()
+	{
+		ConstructorInstantiator<Person> instantiator = new ConstructorInstantiator<>(Person.class,
+			"Bob", 40);
+		assertEquals(2, instantiator.constructor.getParameterCount());
+		assertEquals("Eve", instantiator.newInstance("Eve", 22).name);
+	}
+
+	@Test
+	public void testConcurrentSignatures() throws Exception
+	{
+		ConstructorInstantiator<Person> instantiator = new ConstructorInstantiator<>(Person.class);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++)
+			{
+				int thread = i;
+				results.add(executor.submit(() -> {
+					for (int j = 0; j < 10_000; j++)
+					{
+						if ((j + thread) % 2 == 0)
+						{
+							assertEquals(j, instantiator.newInstance("name", j).age);
+						}
+						else
+						{
+							assertEquals(-1, instantiator.newInstance().age);
+						}
+					}
+				}));
+			}
+			for (Future<?> result : results)
+			{
+				result.get();
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
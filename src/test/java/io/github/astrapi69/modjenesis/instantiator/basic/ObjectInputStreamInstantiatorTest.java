@@ -0,0 +1,144 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.basic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+
+/**
+ * Test class for the class {@link ObjectInputStreamInstantiator}
+ *
+ * @author Asterios Raptis
+ */
+public class ObjectInputStreamInstantiatorTest
+{
+
+	private static final int THREADS = 8;
+
+	private static final int INSTANCES_PER_THREAD = 5_000;
+
+	public static class Message implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		int value = 42;
+	}
+
+	@Test
+	public void testNotSerializable()
+	{
+		assertThrows(ObjenesisException.class, () -> new ObjectInputStreamInstantiator<>(
+			ObjectInputStreamInstantiatorTest.class));
+	}
+
+	@Test
+	public void testManyInstancesFromOneThread()
+	{
+		// more instances than read from one stream before it is replaced
+		ObjectInputStreamInstantiator<Message> instantiator = new ObjectInputStreamInstantiator<>(
+			Message.class);
+		Set<Message> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < INSTANCES_PER_THREAD; i++)
+		{
+			Message message = instantiator.newInstance();
+			assertEquals(Message.class, message.getClass());
+			instances.add(message);
+		}
+		assertEquals(INSTANCES_PER_THREAD, instances.size());
+	}
+
+	@Test
+	public void testReturnedInstanceNotRetained() throws Exception
+	{
+		ObjectInputStreamInstantiator<Message> instantiator = new ObjectInputStreamInstantiator<>(
+			Message.class);
+		WeakReference<Message> reference = new WeakReference<>(instantiator.newInstance());
+		for (int i = 0; i < 50 && reference.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get());
+		assertEquals(Message.class, instantiator.newInstance().getClass());
+	}
+
+	@Test
+	public void testSharedBetweenThreads() throws Exception
+	{
+		ObjectInputStreamInstantiator<Message> instantiator = new ObjectInputStreamInstantiator<>(
+			Message.class);
+		CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try
+		{
+			List<Future<List<Message>>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++)
+			{
+				Callable<List<Message>> task = () -> {
+					List<Message> messages = new ArrayList<>(INSTANCES_PER_THREAD);
+					barrier.await();
+					for (int i = 0; i < INSTANCES_PER_THREAD; i++)
+					{
+						messages.add(instantiator.newInstance());
+					}
+					return messages;
+				};
+				futures.add(executor.submit(task));
+			}
+			Set<Message> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Future<List<Message>> future : futures)
+			{
+				for (Message message : future.get())
+				{
+					assertEquals(Message.class, message.getClass());
+					instances.add(message);
+				}
+			}
+			assertEquals(THREADS * INSTANCES_PER_THREAD, instances.size());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.basic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Test class for the class {@link ObjectStreamClassMethodHandleInstantiator}
+ *
+ * @author Asterios Raptis
+ */
+public class ObjectStreamClassMethodHandleInstantiatorTest
+{
+
+	private static final int THREADS = 8;
+
+	public static class Base
+	{
+		int baseValue = 1;
+	}
+
+	public static class Message extends Base implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		int value = 42;
+	}
+
+	@Test
+	public void testNewInstance()
+	{
+		ObjectInstantiator<Message> instantiator = new ObjectStreamClassMethodHandleInstantiator<>(
+			Message.class);
+		Message first = instantiator.newInstance();
+		Message second = instantiator.newInstance("ignored");
+		assertEquals(Message.class, first.getClass());
+		assertNotSame(first, second);
+		// only the constructor of the first non-serializable superclass is called
+		assertEquals(1, first.baseValue);
+		assertEquals(0, first.value);
+	}
+
+	@Test
+	public void testNotSerializable()
+	{
+		assertThrows(ObjenesisException.class,
+			() -> new ObjectStreamClassMethodHandleInstantiator<>(Base.class));
+	}
+
+	@Test
+	public void testCreatedConcurrently() throws Exception
+	{
+		CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try
+		{
+			List<Future<Message>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++)
+			{
+				Callable<Message> task = () -> {
+					barrier.await();
+					return new ObjectStreamClassMethodHandleInstantiator<>(Message.class)
+						.newInstance();
+				};
+				futures.add(executor.submit(task));
+			}
+			for (Future<Message> future : futures)
+			{
+				assertEquals(Message.class, future.get().getClass());
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
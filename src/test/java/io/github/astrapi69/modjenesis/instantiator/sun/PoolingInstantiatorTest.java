@@ -0,0 +1,126 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.sun;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Test class for the class {@link PoolingInstantiator}
+ *
+ * @author Asterios Raptis
+ */
+public class PoolingInstantiatorTest
+{
+
+	public static class Base
+	{
+		String name = "base";
+		long id = 7L;
+	}
+
+	public static class Message extends Base
+	{
+		Object payload = new Object();
+		double weight = 1.5;
+		int count = 3;
+		float ratio = 0.5f;
+		char kind = 'k';
+		short flags = 2;
+		byte code = 1;
+		boolean sent = true;
+	}
+
+	public static class SpecialMessage extends Message
+	{
+	}
+
+	@Test
+	public void testInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> new PoolingInstantiator<>(Message.class, 0));
+		ObjectInstantiator<Message> instantiator = new UnsafeFactoryInstantiator<>(Message.class);
+		assertThrows(IllegalArgumentException.class,
+			() -> new PoolingInstantiator<>(instantiator, Message.class, 1, -1));
+	}
+
+	@Test
+	public void testReleasedInstanceIsResetAndReused()
+	{
+		PoolingInstantiator<Message> pool = new PoolingInstantiator<>(Message.class, 4);
+		Message message = new Message();
+		pool.release(message);
+
+		assertNull(message.name);
+		assertEquals(0L, message.id);
+		assertNull(message.payload);
+		assertEquals(0.0, message.weight);
+		assertEquals(0, message.count);
+		assertEquals(0.0f, message.ratio);
+		assertEquals('\0', message.kind);
+		assertEquals(0, message.flags);
+		assertEquals(0, message.code);
+		assertFalse(message.sent);
+
+		assertSame(message, pool.newInstance());
+		Message fresh = pool.newInstance();
+		assertNotSame(message, fresh);
+		assertNull(fresh.name);
+	}
+
+	@Test
+	public void testOverflowToSharedList()
+	{
+		ObjectInstantiator<Message> instantiator = new UnsafeFactoryInstantiator<>(Message.class);
+		PoolingInstantiator<Message> pool = new PoolingInstantiator<>(instantiator, Message.class,
+			2, 1);
+		for (int i = 0; i < 5; i++)
+		{
+			pool.release(new Message());
+		}
+		// one in the list of the thread, two in the shared list and the others dropped
+		assertEquals(1, pool.getLocalCapacity());
+		assertEquals(2, pool.getSharedSize());
+		pool.newInstance();
+		pool.newInstance();
+		assertEquals(1, pool.getSharedSize());
+	}
+
+	@Test
+	public void testReleaseOfAnotherClass()
+	{
+		PoolingInstantiator<Message> pool = new PoolingInstantiator<>(Message.class, 4);
+		assertThrows(IllegalArgumentException.class, () -> pool.release(new SpecialMessage()));
+	}
+}
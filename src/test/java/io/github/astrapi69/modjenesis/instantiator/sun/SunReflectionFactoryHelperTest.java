@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.sun;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link SunReflectionFactoryHelper}
+ *
+ * @author Asterios Raptis
+ */
+public class SunReflectionFactoryHelperTest
+{
+
+	public static class Hooked implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		String value = "constructed";
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.defaultReadObject();
+		}
+
+		private Object readResolve()
+		{
+			return "resolved";
+		}
+
+		private Object writeReplace()
+		{
+			return "replaced";
+		}
+	}
+
+	public static class Plain implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+	}
+
+	@Test
+	public void testNewConstructorForSerialization() throws Exception
+	{
+		Constructor<Hooked> constructor = SunReflectionFactoryHelper
+			.newConstructorForSerialization(Hooked.class, Object.class.getConstructor());
+		constructor.setAccessible(true);
+		Hooked hooked = constructor.newInstance();
+		assertEquals(Hooked.class, hooked.getClass());
+		assertNull(hooked.value);
+	}
+
+	@Test
+	public void testSerializationHooks() throws Throwable
+	{
+		Hooked hooked = new Hooked();
+		assertNotNull(SunReflectionFactoryHelper.readObjectForSerialization(Hooked.class));
+		MethodHandle readResolve = SunReflectionFactoryHelper
+			.readResolveForSerialization(Hooked.class);
+		assertEquals("resolved", readResolve.invoke(hooked));
+		MethodHandle writeReplace = SunReflectionFactoryHelper
+			.writeReplaceForSerialization(Hooked.class);
+		assertEquals("replaced", writeReplace.invoke(hooked));
+	}
+
+	@Test
+	public void testSerializationHooksOfClassWithoutHooks()
+	{
+		assertNull(SunReflectionFactoryHelper.readObjectForSerialization(Plain.class));
+		assertNull(SunReflectionFactoryHelper.readResolveForSerialization(Plain.class));
+		assertNull(SunReflectionFactoryHelper.writeReplaceForSerialization(Plain.class));
+	}
+}
@@ -0,0 +1,247 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.instantiator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.ObjenesisException;
+
+/**
+ * Test class for the class {@link ConstructorIndex}
+ *
+ * @author Asterios Raptis
+ */
+public class ConstructorIndexTest
+{
+
+	public static class Holder
+	{
+		public Holder(Object value)
+		{
+		}
+	}
+
+	public static class Wrapper
+	{
+		final Object value;
+
+		public Wrapper(Object value)
+		{
+			this.value = value;
+		}
+	}
+
+	public static class Argument
+	{
+	}
+
+	/** Loads its own copy of {@link Argument}, like a plugin class loader */
+	private static final class ChildClassLoader extends ClassLoader
+	{
+		ChildClassLoader()
+		{
+			super(ConstructorIndexTest.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+		{
+			if (!name.equals(Argument.class.getName()))
+			{
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name))
+			{
+				Class<?> type = findLoadedClass(name);
+				if (type == null)
+				{
+					try (InputStream in = getParent()
+						.getResourceAsStream(name.replace('.', '/') + ".class"))
+					{
+						byte[] bytes = in.readAllBytes();
+						type = defineClass(name, bytes, 0, bytes.length);
+					}
+					catch (IOException e)
+					{
+						throw new ClassNotFoundException(name, e);
+					}
+				}
+				return type;
+			}
+		}
+	}
+
+	public static class Overloaded
+	{
+		final String called;
+
+		public Overloaded()
+		{
+			called = "()";
+		}
+
+		public Overloaded(int value)
+		{
+			called = "(int)";
+		}
+
+		public Overloaded(Integer value)
+		{
+			called = "(Integer)";
+		}
+
+		public Overloaded(long value)
+		{
+			called = "(long)";
+		}
+
+		public Overloaded(CharSequence value)
+		{
+			called = "(CharSequence)";
+		}
+
+		public Overloaded(String value, List<?> values)
+		{
+			called = "(String, List)";
+		}
+
+		public Overloaded(Object value, Object other)
+		{
+			called = "(Object, Object)";
+		}
+	}
+
+	public static class Ambiguous
+	{
+		public Ambiguous(String value)
+		{
+		}
+
+		public Ambiguous(Integer value)
+		{
+		}
+	}
+
+	private static String called(Object... args) throws Exception
+	{
+		Constructor<Overloaded> constructor = ConstructorIndex.of(Overloaded.class).get(args);
+		return constructor.newInstance(args).called;
+	}
+
+	@Test
+	public void testMostSpecific() throws Exception
+	{
+		assertEquals("()", called());
+		assertEquals("()", called((Object[])null));
+		assertEquals("(Integer)", called(1));
+		assertEquals("(long)", called(1L));
+		assertEquals("(int)", called((short)1));
+		assertEquals("(CharSequence)", called("text"));
+		assertEquals("(CharSequence)", called(new StringBuilder()));
+		assertEquals("(String, List)", called("text", new ArrayList<>()));
+		assertEquals("(String, List)", called(null, new ArrayList<>()));
+		assertEquals("(Object, Object)", called(1, 2));
+		assertEquals("(Object, Object)", called(1.5f, true));
+		assertEquals("(int)", called('c'));
+	}
+
+	@Test
+	public void testRepeatedSignature() throws Exception
+	{
+		ConstructorIndex<Overloaded> index = ConstructorIndex.of(Overloaded.class);
+		assertSame(index, ConstructorIndex.of(Overloaded.class));
+		Constructor<Overloaded> constructor = index.get("a");
+		assertSame(constructor, index.get("b"));
+		index.get(1);
+		assertSame(constructor, index.get("c"));
+	}
+
+	@Test
+	public void testSignaturesBounded()
+	{
+		ConstructorIndex<Holder> index = ConstructorIndex.of(Holder.class);
+		for (int dimensions = 1; dimensions <= ConstructorIndex.MAX_RESOLVED * 2; dimensions++)
+		{
+			index.get(Array.newInstance(String.class, new int[dimensions]));
+		}
+		assertEquals(ConstructorIndex.MAX_RESOLVED, index.size());
+	}
+
+	@Test
+	public void testSignatureOfOtherClassLoaderNotKept() throws Exception
+	{
+		Object argument = new ChildClassLoader().loadClass(Argument.class.getName())
+			.getDeclaredConstructor()
+			.newInstance();
+		assertFalse(argument.getClass() == Argument.class);
+		ConstructorIndex<Wrapper> index = ConstructorIndex.of(Wrapper.class);
+		assertSame(argument, index.get(argument).newInstance(argument).value);
+		assertSame(argument, index.get(argument).newInstance(argument).value);
+		assertEquals(0, index.size());
+		assertFalse(ArgumentSignature.of(argument)
+			.isVisibleFrom(ConstructorIndexTest.class.getClassLoader()));
+		assertTrue(ArgumentSignature.of(new Argument(), "a", null)
+			.isVisibleFrom(ConstructorIndexTest.class.getClassLoader()));
+	}
+
+	@Test
+	public void testNoneApplicable()
+	{
+		ObjenesisException e = assertThrows(ObjenesisException.class,
+			() -> ConstructorIndex.of(Overloaded.class).get(new Object()));
+		assertInstanceOf(NoSuchMethodException.class, e.getCause());
+		e = assertThrows(ObjenesisException.class,
+			() -> ConstructorIndex.of(Ambiguous.class).get((Object)null));
+		assertTrue(e.getCause().getMessage().contains("ambiguous"), e.getCause().getMessage());
+	}
+
+	@Test
+	public void testIsAssignable()
+	{
+		assertTrue(ConstructorIndex.isAssignable(int.class, Integer.class));
+		assertTrue(ConstructorIndex.isAssignable(long.class, Byte.class));
+		assertTrue(ConstructorIndex.isAssignable(int.class, Character.class));
+		assertTrue(ConstructorIndex.isAssignable(Object.class, null));
+		assertFalse(ConstructorIndex.isAssignable(int.class, null));
+		assertFalse(ConstructorIndex.isAssignable(int.class, Long.class));
+		assertFalse(ConstructorIndex.isAssignable(char.class, Byte.class));
+		assertFalse(ConstructorIndex.isAssignable(boolean.class, Integer.class));
+		assertFalse(ConstructorIndex.isAssignable(Integer.class, int.class));
+	}
+}
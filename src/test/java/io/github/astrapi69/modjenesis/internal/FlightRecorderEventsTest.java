@@ -0,0 +1,106 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
+import io.github.astrapi69.modjenesis.strategy.StdInstantiatorStrategy;
+
+/**
+ * Test class for the classes {@link InstantiatorCreationEvent} and {@link SlowInstantiationEvent}
+ *
+ * @author Asterios Raptis
+ */
+public class FlightRecorderEventsTest
+{
+
+	public static class Pojo
+	{
+	}
+
+	@Test
+	public void testEvents() throws Exception
+	{
+		Path file = Files.createTempFile("modjenesis", ".jfr");
+		try
+		{
+			try (Recording recording = new Recording())
+			{
+				recording.enable(InstantiatorCreationEvent.class);
+				// every instantiation is slow with a zero threshold
+				recording.enable(SlowInstantiationEvent.class).withThreshold(Duration.ZERO);
+				recording.start();
+				ObjenesisStd objenesis = new ObjenesisStd();
+				objenesis.newInstance(Pojo.class);
+				objenesis.newInstance(Pojo.class);
+				recording.stop();
+				recording.dump(file);
+			}
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+			List<RecordedEvent> creations = eventsNamed(events, InstantiatorCreationEvent.NAME);
+			assertEquals(1, creations.size());
+			RecordedEvent creation = creations.get(0);
+			assertEquals(Pojo.class.getName(),
+				creation.getClass("instantiatedClass").getName());
+			assertEquals(SunReflectionFactoryInstantiator.class.getName(),
+				creation.getClass("instantiatorType").getName());
+			assertEquals(StdInstantiatorStrategy.class.getName(),
+				creation.getClass("strategy").getName());
+			assertFalse(creation.getDuration().isNegative());
+
+			List<RecordedEvent> instantiations = eventsNamed(events, SlowInstantiationEvent.NAME);
+			assertEquals(2, instantiations.size());
+			assertEquals(Pojo.class.getName(),
+				instantiations.get(0).getClass("instantiatedClass").getName());
+		}
+		finally
+		{
+			Files.delete(file);
+		}
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name)
+	{
+		return events.stream()
+			.filter(event -> event.getEventType().getName().equals(name))
+			.collect(Collectors.toList());
+	}
+}
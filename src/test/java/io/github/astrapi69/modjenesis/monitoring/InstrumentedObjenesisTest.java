@@ -0,0 +1,123 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.cache.ClassValueInstantiatorCache;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Test class for the class {@link InstrumentedObjenesis}
+ *
+ * @author Asterios Raptis
+ */
+public class InstrumentedObjenesisTest
+{
+
+	public static class Pojo
+	{
+	}
+
+	@Test
+	public void testCounters()
+	{
+		InstrumentedObjenesis objenesis = new InstrumentedObjenesis(
+			new ObjenesisStd(new ClassValueInstantiatorCache(true)));
+		objenesis.newInstance(Pojo.class);
+		objenesis.newInstance(Pojo.class, "ignored");
+		ObjectInstantiator<Pojo> instantiator = objenesis.getInstantiatorOf(Pojo.class);
+		instantiator.newInstance();
+		instantiator.newInstances(new Pojo[5]);
+		objenesis.newInstance(String.class);
+
+		assertEquals(2, objenesis.getCacheSize());
+		assertEquals(2, objenesis.getMissCount());
+		assertEquals(2, objenesis.getHitCount());
+		assertEquals(2, objenesis.getLoadCount());
+		assertEquals(9, objenesis.getInstantiationCount());
+		assertEquals(Long.valueOf(8),
+			objenesis.getInstantiationCounts().get(Pojo.class.getName()));
+
+		objenesis.resetInstantiationCounts();
+		assertEquals(0, objenesis.getInstantiationCount());
+		// the wrapper is kept as long as the instantiator is cached
+		assertSame(instantiator, objenesis.getInstantiatorOf(Pojo.class));
+	}
+
+	@Test
+	public void testWithoutCounting()
+	{
+		ObjenesisStd std = new ObjenesisStd(new ClassValueInstantiatorCache(true));
+		InstrumentedObjenesis objenesis = new InstrumentedObjenesis(std, false);
+		objenesis.newInstance(Pojo.class);
+		assertSame(std.getInstantiatorOf(Pojo.class), objenesis.getInstantiatorOf(Pojo.class));
+		assertEquals(1, objenesis.getCacheSize());
+		assertEquals(0, objenesis.getInstantiationCount());
+	}
+
+	@Test
+	public void testWithoutCache()
+	{
+		InstrumentedObjenesis objenesis = new InstrumentedObjenesis(new ObjenesisStd(false));
+		objenesis.newInstance(Pojo.class);
+		assertEquals(-1, objenesis.getCacheSize());
+		assertEquals(0, objenesis.getHitCount());
+		assertEquals(1, objenesis.getInstantiationCount());
+	}
+
+	@Test
+	public void testRegister() throws Exception
+	{
+		InstrumentedObjenesis objenesis = new InstrumentedObjenesis(new ObjenesisStd());
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = new ObjectName(objenesis.register("test"));
+		try
+		{
+			assertThrows(IllegalStateException.class, () -> objenesis.register("test"));
+			objenesis.newInstance(Pojo.class);
+			assertEquals(1L, server.getAttribute(objectName, "InstantiationCount"));
+			assertEquals(1, server.getAttribute(objectName, "CacheSize"));
+			assertTrue(server.isRegistered(objectName));
+		}
+		finally
+		{
+			objenesis.unregister();
+		}
+		assertFalse(server.isRegistered(objectName));
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link LatencyHistogram}
+ *
+ * @author Asterios Raptis
+ */
+public class LatencyHistogramTest
+{
+
+	@Test
+	public void testBuckets()
+	{
+		for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123_456_789,
+				Long.MAX_VALUE })
+		{
+			long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+			assertTrue(highest >= value, value + " -> " + highest);
+			assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKET_COUNT,
+				value + " -> " + highest);
+		}
+		for (int index = 0; index < 200; index++)
+		{
+			assertEquals(index,
+				LatencyHistogram.indexOf(LatencyHistogram.highestValueOf(index)));
+		}
+	}
+
+	@Test
+	public void testSnapshot()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.snapshot().getCount());
+		for (int i = 1; i <= 1000; i++)
+		{
+			histogram.record(i * 1000L);
+		}
+		LatencySnapshot snapshot = histogram.snapshot();
+		assertEquals(1000, snapshot.getCount());
+		assertEquals(1_000_000, snapshot.getMax());
+		assertWithin(500_000, snapshot.getP50());
+		assertWithin(990_000, snapshot.getP99());
+		assertWithin(999_000, snapshot.getP999());
+
+		histogram.reset();
+		assertEquals(0, histogram.snapshot().getCount());
+		assertEquals(0, histogram.snapshot().getMax());
+	}
+
+	@Test
+	public void testMerge() throws InterruptedException
+	{
+		LatencyHistogram merged = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++)
+		{
+			long latency = (i + 1) * 100L;
+			threads[i] = new Thread(() -> {
+				LatencyHistogram histogram = new LatencyHistogram();
+				for (int j = 0; j < 10_000; j++)
+				{
+					histogram.record(latency);
+				}
+				merged.merge(histogram);
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		LatencySnapshot snapshot = merged.snapshot();
+		assertEquals(40_000, snapshot.getCount());
+		assertEquals(400, snapshot.getMax());
+		assertWithin(200, snapshot.getP50());
+		assertWithin(400, snapshot.getP99());
+	}
+
+	private static void assertWithin(long expected, long actual)
+	{
+		assertTrue(actual >= expected && actual <= expected + expected / 16,
+			"expected about " + expected + " but was " + actual);
+	}
+}
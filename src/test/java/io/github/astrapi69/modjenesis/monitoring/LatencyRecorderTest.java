@@ -0,0 +1,124 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.Objenesis;
+import io.github.astrapi69.modjenesis.ObjenesisStd;
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Test class for the class {@link LatencyRecorder}
+ *
+ * @author Asterios Raptis
+ */
+public class LatencyRecorderTest
+{
+
+	public static class Pojo
+	{
+	}
+
+	public static class SlowlyInitialized
+	{
+		static
+		{
+			try
+			{
+				Thread.sleep(20);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private final Objenesis objenesis = new ObjenesisStd();
+
+	@Test
+	public void testRecordsEveryCall()
+	{
+		LatencyRecorder recorder = new LatencyRecorder(1);
+		ObjectInstantiator<Pojo> instantiator = recorder.decorate(Pojo.class,
+			objenesis.getInstantiatorOf(Pojo.class));
+		for (int i = 0; i < 100; i++)
+		{
+			assertNotNull(instantiator.newInstance());
+		}
+		instantiator.newInstance("ignored");
+		assertEquals(101, recorder.getHistogram(Pojo.class).snapshot().getCount());
+		assertEquals(101, recorder.getMergedSnapshot().getCount());
+
+		recorder.reset();
+		assertEquals(0, recorder.getMergedSnapshot().getCount());
+	}
+
+	@Test
+	public void testSampling()
+	{
+		LatencyRecorder recorder = new LatencyRecorder(0.1);
+		ObjectInstantiator<Pojo> instantiator = recorder.decorate(Pojo.class,
+			objenesis.getInstantiatorOf(Pojo.class));
+		for (int i = 0; i < 10_000; i++)
+		{
+			instantiator.newInstance();
+		}
+		long count = recorder.getHistogram(Pojo.class).snapshot().getCount();
+		assertTrue(count > 500 && count < 1500, "sampled " + count);
+	}
+
+	@Test
+	public void testFirstCallAlwaysRecorded()
+	{
+		LatencyRecorder recorder = new LatencyRecorder(0.000_001);
+		ObjectInstantiator<SlowlyInitialized> instantiator = recorder.decorate(
+			SlowlyInitialized.class, objenesis.getInstantiatorOf(SlowlyInitialized.class));
+		instantiator.newInstance();
+		instantiator.newInstance();
+
+		Map<String, LatencySnapshot> snapshots = recorder.getSnapshots();
+		LatencySnapshot snapshot = snapshots.get(SlowlyInitialized.class.getName());
+		assertTrue(snapshot.getCount() >= 1);
+		assertTrue(snapshot.getMax() >= TimeUnit.MILLISECONDS.toNanos(20), snapshot.toString());
+	}
+
+	@Test
+	public void testInvalidSamplingRate()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new LatencyRecorder(0));
+		assertThrows(IllegalArgumentException.class, () -> new LatencyRecorder(1.5));
+		assertThrows(IllegalArgumentException.class, () -> new LatencyRecorder(Double.NaN));
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.modjenesis.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.modjenesis.instantiator.ObjectInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.SunReflectionFactoryInstantiator;
+import io.github.astrapi69.modjenesis.instantiator.sun.UnsafeFactoryInstantiator;
+
+/**
+ * Test class for the class {@link AdaptiveInstantiatorStrategy}
+ *
+ * @author Asterios Raptis
+ */
+public class AdaptiveInstantiatorStrategyTest
+{
+
+	public static class Point
+	{
+		int x = 1;
+		int y = 2;
+
+		public Point()
+		{
+			throw new IllegalStateException("constructor called");
+		}
+	}
+
+	public static class Size
+	{
+		int width;
+		int height = 3;
+	}
+
+	public static class Wide
+	{
+		long a, b, c, d, e, f, g, h, i, j;
+	}
+
+	@Test
+	public void testInvalidTrialIterations()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveInstantiatorStrategy(0));
+	}
+
+	@Test
+	public void testNewInstantiatorOf()
+	{
+		AdaptiveInstantiatorStrategy strategy = new AdaptiveInstantiatorStrategy(100);
+		assertNull(strategy.getWinnerOf(Point.class));
+
+		ObjectInstantiator<Point> instantiator = strategy.newInstantiatorOf(Point.class);
+		Point point = instantiator.newInstance();
+		assertEquals(0, point.x);
+
+		Class<?> winner = strategy.getWinnerOf(Point.class);
+		assertNotNull(winner);
+		assertTrue(Arrays.asList(SunReflectionFactoryInstantiator.class,
+			UnsafeFactoryInstantiator.class).contains(winner));
+		assertSame(winner, instantiator.getClass());
+	}
+
+	@Test
+	public void testDecisionPerShape()
+	{
+		AdaptiveInstantiatorStrategy strategy = new AdaptiveInstantiatorStrategy(100);
+		strategy.newInstantiatorOf(Point.class);
+		// same count of fields, so same shape and no new trial
+		assertSame(strategy.getWinnerOf(Point.class), strategy.getWinnerOf(Size.class));
+		assertEquals(0, strategy.newInstantiatorOf(Size.class).newInstance().height);
+
+		assertNull(strategy.getWinnerOf(Wide.class));
+		assertEquals(Wide.class, strategy.newInstantiatorOf(Wide.class).newInstance().getClass());
+		assertNotNull(strategy.getWinnerOf(Wide.class));
+	}
+}
@@ -25,12 +25,14 @@
 package io.github.astrapi69.modjenesis.strategy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Method;
 
 import org.junit.jupiter.api.Test;
 
 import io.github.astrapi69.modjenesis.strategy.PlatformDescription;
+import io.github.astrapi69.modjenesis.strategy.PlatformDescription.Capability;
 
 /**
  * Currently the test just check nothing is crashing. A more complex test should play with class
@@ -76,4 +78,15 @@ public class PlatformDescriptionTest
 	{
 		PlatformDescription.isAfterJava11(); // just make sure it doesn't crash
 	}
+
+	@Test
+	public void hasCapability()
+	{
+		if (PlatformDescription.isThisJVM(PlatformDescription.HOTSPOT)
+			|| PlatformDescription.isThisJVM(PlatformDescription.OPENJDK))
+		{
+			assertTrue(PlatformDescription.hasCapability(Capability.UNSAFE));
+			assertTrue(PlatformDescription.hasCapability(Capability.REFLECTION_FACTORY));
+		}
+	}
 }